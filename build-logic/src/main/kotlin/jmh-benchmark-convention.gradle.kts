@@ -0,0 +1,74 @@
+plugins {
+    java
+}
+
+val group: String by project
+setGroup(group)
+
+val version: String by project
+setVersion(version)
+
+val libs = project.rootProject
+    .extensions
+    .getByType(VersionCatalogsExtension::class)
+    .named("libs")
+
+//
+// Repositories and Dependencies
+//
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    compileOnly(libs.findLibrary("jetbrains-annotations").get())
+
+    implementation(libs.findLibrary("jmh-core").get())
+    annotationProcessor(libs.findLibrary("jmh-generator-annprocess").get())
+}
+
+//
+// Java configuration
+//
+
+java {
+    toolchain.languageVersion.set(JavaLanguageVersion.of(25))
+    sourceCompatibility = JavaVersion.VERSION_25
+    targetCompatibility = JavaVersion.VERSION_25
+}
+
+//
+// Task configurations
+//
+
+tasks {
+    withType<JavaCompile> {
+        options.release.set(25)
+        options.encoding = Charsets.UTF_8.name()
+    }
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks with the allocation profiler, " +
+                "benchmarks can be selected with -Pjmh.includes=<regex>."
+        classpath = sourceSets.main.get().runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+
+        val results = layout.buildDirectory.file("results/jmh/results.json")
+        val includes = providers.gradleProperty("jmh.includes")
+        outputs.file(results)
+        outputs.upToDateWhen { false }
+        argumentProviders.add(CommandLineArgumentProvider {
+            val arguments = mutableListOf(
+                "-prof", "gc",
+                "-rf", "json",
+                "-rff", results.get().asFile.absolutePath
+            )
+            includes.orNull?.let { arguments.add(it) }
+            arguments
+        })
+        doFirst {
+            results.get().asFile.parentFile.mkdirs()
+        }
+    }
+}
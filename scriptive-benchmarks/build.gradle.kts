@@ -0,0 +1,15 @@
+plugins {
+    id("jmh-benchmark-convention")
+}
+
+repositories {
+    maven("https://repo.machinemc.org/releases")
+}
+
+dependencies {
+    implementation(project(":scriptive-core"))
+    implementation(project(":scriptive-formatify"))
+    implementation(project(":scriptive-gson"))
+    implementation(project(":scriptive-nbt"))
+    implementation(libs.machinemc.nbt)
+}
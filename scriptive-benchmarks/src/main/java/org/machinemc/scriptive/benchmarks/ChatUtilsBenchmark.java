@@ -0,0 +1,40 @@
+package org.machinemc.scriptive.benchmarks;
+
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.util.ChatUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of strings with legacy color codes to components.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatUtilsBenchmark {
+
+    @Param({"chat", "plain"})
+    public String fixture;
+
+    private String input;
+
+    @Setup
+    public void setup() {
+        input = fixture.equals("chat") ? Fixtures.LEGACY_CHAT : Fixtures.LEGACY_PLAIN;
+    }
+
+    @Benchmark
+    public TextComponent stringToComponent() {
+        return ChatUtils.stringToComponent(input);
+    }
+
+    @Benchmark
+    public String colored() {
+        return ChatUtils.colored(input);
+    }
+
+}
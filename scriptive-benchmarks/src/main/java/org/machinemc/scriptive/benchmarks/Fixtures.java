@@ -0,0 +1,119 @@
+package org.machinemc.scriptive.benchmarks;
+
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.KeybindComponent;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.components.TranslationComponent;
+import org.machinemc.scriptive.events.ClickEvent;
+import org.machinemc.scriptive.events.HoverEvent;
+import org.machinemc.scriptive.formatify.Formatify;
+import org.machinemc.scriptive.style.ChatColor;
+import org.machinemc.scriptive.style.ChatStyle;
+import org.machinemc.scriptive.style.HexColor;
+import org.machinemc.scriptive.style.TextFormat;
+import org.machinemc.scriptive.util.ChatUtils;
+
+/**
+ * Representative inputs shared by the benchmarks.
+ */
+public final class Fixtures {
+
+    /**
+     * Formatify configuration entries as found in plugin message files.
+     */
+    public static final String CHAT_FORMAT = "<gray>[<gold><bold>Server</bold></gold>]</gray> "
+            + "<hover:show_text:<green>Click to view the profile><click:run_command:/profile Steve>"
+            + "<yellow>Steve</yellow></click></hover><dark_gray>: <white>Hello <italic>everyone</italic>, "
+            + "welcome to the <aqua>survival</aqua> server!";
+    public static final String JOIN_FORMAT = "<green>+</green> <gradient:#5e4fa2:#f79459>Steve</gradient> "
+            + "<gray>joined the game (<yellow>12</yellow>/<yellow>100</yellow>)";
+    public static final String SCOREBOARD_FORMAT = "<bold><rainbow>Scriptive Network</rainbow></bold><reset> "
+            + "<gray>Online: <white>1,024</white> <dark_gray>| <gray>Rank: <#ff55ff>MVP<gold>+</gold></#ff55ff> "
+            + "<dark_gray>| <gray>Coins: <gold>12,345</gold> <dark_gray>| <key:key.inventory> to open the menu";
+    public static final String PLAIN_FORMAT = "Players online: 12, maximum: 100, server version 1.21.1";
+
+    /**
+     * Strings with legacy color codes.
+     */
+    public static final String LEGACY_CHAT = ChatUtils.colored(
+            "&7[&6&lServer&7] &eSteve&8: &fHello &oeveryone&f, welcome to the &bsurvival &fserver!");
+    public static final String LEGACY_PLAIN = "Players online: 12, maximum: 100, server version 1.21.1";
+
+    private Fixtures() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @param name name of the fixture
+     * @return formatify configuration entry
+     */
+    public static String format(String name) {
+        return switch (name) {
+            case "chat" -> CHAT_FORMAT;
+            case "join" -> JOIN_FORMAT;
+            case "scoreboard" -> SCOREBOARD_FORMAT;
+            case "plain" -> PLAIN_FORMAT;
+            default -> throw new IllegalArgumentException("Unknown fixture '" + name + "'");
+        };
+    }
+
+    /**
+     * @param name name of the fixture
+     * @return component
+     */
+    public static Component component(String name) {
+        return switch (name) {
+            case "chat" -> Formatify.formatify().parse(CHAT_FORMAT);
+            case "translation" -> translation();
+            case "long" -> longMessage(256);
+            default -> throw new IllegalArgumentException("Unknown fixture '" + name + "'");
+        };
+    }
+
+    /**
+     * Creates component with many styled siblings, similar to book pages
+     * or long lore.
+     *
+     * @param parts number of siblings
+     * @return long component
+     */
+    public static Component longMessage(int parts) {
+        TextComponent root = TextComponent.of("Lore: ");
+        ChatColor[] colors = ChatColor.values();
+        for (int i = 0; i < parts; i++) {
+            TextFormat format = i % 3 == 0
+                    ? new TextFormat(new HexColor(0x101010 * (i % 16)), ChatStyle.BOLD)
+                    : new TextFormat(colors[i % 16]);
+            TextComponent part = TextComponent.of("line " + i + " ", format);
+            if (i % 8 == 0) part.setClickEvent(new ClickEvent(ClickEvent.Action.SUGGEST_COMMAND, "/line " + i));
+            if (i % 16 == 0) part.append(KeybindComponent.of("key.use"));
+            root.append(part);
+        }
+        return root;
+    }
+
+    /**
+     * @return translation component with nested styled arguments
+     */
+    public static Component translation() {
+        TextComponent player = TextComponent.of("Steve");
+        player.setColor(ChatColor.YELLOW);
+        player.setHoverEvent(new HoverEvent<>(HoverEvent.SHOW_TEXT, new HoverEvent.Text(TextComponent.of("Steve's profile"))));
+        TextComponent message = TextComponent.of("Hello everyone");
+        message.setItalic(true);
+        return TranslationComponent.of("chat.type.text", player, message);
+    }
+
+    /**
+     * @param length length of the text
+     * @return text of given length
+     */
+    public static String text(int length) {
+        String words = "The quick brown fox jumps over the lazy dog. ";
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length)
+            builder.append(words, 0, Math.min(words.length(), length - builder.length()));
+        return builder.toString();
+    }
+
+}
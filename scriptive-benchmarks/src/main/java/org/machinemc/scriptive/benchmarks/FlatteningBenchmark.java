@@ -0,0 +1,45 @@
+package org.machinemc.scriptive.benchmarks;
+
+import org.machinemc.scriptive.components.Component;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flattening of component trees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlatteningBenchmark {
+
+    @Param({"chat", "translation", "long"})
+    public String fixture;
+
+    private Component component;
+
+    @Setup
+    public void setup() {
+        component = Fixtures.component(fixture);
+    }
+
+    @Benchmark
+    public List<Component> toFlatList() {
+        return component.toFlatList();
+    }
+
+    @Benchmark
+    public String toLegacyString() {
+        return component.toLegacyString();
+    }
+
+    @Benchmark
+    public String getString() {
+        return component.getString();
+    }
+
+}
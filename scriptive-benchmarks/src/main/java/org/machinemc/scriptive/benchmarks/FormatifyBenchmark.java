@@ -0,0 +1,54 @@
+package org.machinemc.scriptive.benchmarks;
+
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.formatify.Formatify;
+import org.machinemc.scriptive.formatify.FormatifyTemplate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of Formatify configuration entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatifyBenchmark {
+
+    @Param({"chat", "join", "scoreboard", "plain"})
+    public String fixture;
+
+    private final Formatify formatify = Formatify.formatify();
+
+    private String input;
+    private FormatifyTemplate template;
+    private Map<String, Component> values;
+
+    @Setup
+    public void setup() {
+        input = Fixtures.format(fixture);
+        template = formatify.compile(input.replace("Steve", "<slot:player>"));
+        values = Map.of("player", TextComponent.of("Alex"));
+    }
+
+    @Benchmark
+    public TextComponent parse() {
+        return formatify.parse(input);
+    }
+
+    @Benchmark
+    public FormatifyTemplate compile() {
+        return formatify.compile(input);
+    }
+
+    @Benchmark
+    public TextComponent render() {
+        return template.render(values);
+    }
+
+}
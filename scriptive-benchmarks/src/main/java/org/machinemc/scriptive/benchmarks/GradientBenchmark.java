@@ -0,0 +1,53 @@
+package org.machinemc.scriptive.benchmarks;
+
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.formatify.tag.GradientTag;
+import org.machinemc.scriptive.formatify.tag.RainbowTag;
+import org.machinemc.scriptive.style.HexColor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gradient and rainbow tags applied to long strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradientBenchmark {
+
+    @Param({"16", "256", "4096"})
+    public int length;
+
+    private final GradientTag gradient = new GradientTag(new HexColor[]{
+            new HexColor(0x5E4FA2),
+            new HexColor(0xF79459),
+            new HexColor(0x3288BD)
+    }, 0);
+    private final RainbowTag rainbow = new RainbowTag(0);
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = Fixtures.text(length);
+    }
+
+    @Benchmark
+    public TextComponent gradient() {
+        TextComponent component = TextComponent.of(text);
+        gradient.apply(component);
+        return component;
+    }
+
+    @Benchmark
+    public TextComponent rainbow() {
+        TextComponent component = TextComponent.of(text);
+        rainbow.apply(component);
+        return component;
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.machinemc.scriptive.benchmarks;
+
+import org.machinemc.nbt.NBTCompound;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.serialization.ComponentProperties;
+import org.machinemc.scriptive.serialization.ComponentSerializer;
+import org.machinemc.scriptive.serialization.JSONPropertiesSerializer;
+import org.machinemc.scriptive.serialization.NBTPropertiesSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of components with {@link ComponentSerializer}
+ * and the JSON and NBT properties serializers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"chat", "translation", "long"})
+    public String fixture;
+
+    private final ComponentSerializer serializer = new ComponentSerializer();
+    private final JSONPropertiesSerializer json = new JSONPropertiesSerializer();
+    private final NBTPropertiesSerializer nbt = NBTPropertiesSerializer.get();
+
+    private Component component;
+    private ComponentProperties properties;
+    private String encodedJson;
+    private NBTCompound encodedNbt;
+    private ByteBuffer buffer;
+    private ByteBuffer encodedBinary;
+
+    @Setup
+    public void setup() {
+        component = Fixtures.component(fixture);
+        properties = serializer.serialize(component);
+        encodedJson = json.serialize(component, serializer);
+        encodedNbt = serializer.serialize(component, nbt);
+        buffer = ByteBuffer.allocate(1 << 20);
+        nbt.write(component, serializer, buffer);
+        encodedBinary = buffer.flip().slice();
+    }
+
+    @Benchmark
+    public ComponentProperties properties() {
+        return serializer.serialize(component);
+    }
+
+    @Benchmark
+    public String jsonEncode() {
+        return serializer.serialize(component, json);
+    }
+
+    @Benchmark
+    public String jsonEncodeStreaming() {
+        return json.serialize(component, serializer);
+    }
+
+    @Benchmark
+    public Component jsonDecode() {
+        return serializer.deserialize(encodedJson, json);
+    }
+
+    @Benchmark
+    public Component jsonDecodeStreaming() {
+        return json.deserialize(encodedJson, serializer);
+    }
+
+    @Benchmark
+    public NBTCompound nbtEncode() {
+        return serializer.serialize(component, nbt);
+    }
+
+    @Benchmark
+    public ByteBuffer nbtEncodeBinary() {
+        nbt.write(component, serializer, buffer.clear());
+        return buffer;
+    }
+
+    @Benchmark
+    public Component nbtDecode() {
+        return serializer.deserialize(encodedNbt, nbt);
+    }
+
+    @Benchmark
+    public Component nbtDecodeBinary() {
+        return nbt.read(encodedBinary.duplicate(), serializer);
+    }
+
+    @Benchmark
+    public Component propertiesDecode() {
+        return serializer.deserialize(properties);
+    }
+
+}
@@ -7,11 +7,15 @@ import org.machinemc.scriptive.serialization.ComponentProperties;
 import org.machinemc.scriptive.serialization.ComponentProperty;
 import org.machinemc.scriptive.serialization.ComponentSerializer;
 import org.machinemc.scriptive.serialization.Contents;
+import org.machinemc.scriptive.serialization.PropertiesReader;
+import org.machinemc.scriptive.serialization.PropertiesWriter;
 import org.machinemc.scriptive.events.ClickEvent;
 import org.machinemc.scriptive.events.HoverEvent;
 import org.machinemc.scriptive.style.ChatStyle;
 import org.machinemc.scriptive.style.Colour;
 import org.machinemc.scriptive.style.TextFormat;
+import org.machinemc.scriptive.style.TextStyle;
+import org.machinemc.scriptive.util.LegacyRenderer;
 
 import java.util.*;
 import java.util.function.Consumer;
@@ -19,7 +23,17 @@ import java.util.function.Consumer;
 /**
  * Shared component implementation.
  * <p>
- * Can be extended to create custom component implementations.
+ * Can be extended to create custom component implementations, those
+ * should override both {@link #getProperties()} and {@link #writeFields(PropertiesWriter)}.
+ * <p>
+ * Styling of the component is kept as an interned {@link TextStyle}, that is replaced
+ * whenever the style changes. Mutable {@link TextFormat} is created only when it is requested
+ * by {@link #getTextFormat()}, from then on the changes of the returned text format are
+ * reflected by the component.
+ * <p>
+ * Each component owns its parts, children and other component parts are private copies
+ * that report their modifications to the component they belong to, so the cached hash code
+ * of a component is invalidated whenever any part of it changes.
  *
  * @see TextComponent
  * @see TranslationComponent
@@ -28,10 +42,14 @@ import java.util.function.Consumer;
 public abstract class BaseComponent implements Component {
 
     private final List<Component> siblings;
-    private TextFormat textFormat;
+    private TextStyle style;
+    private @Nullable TextFormat textFormat;
     private @Nullable String insertion;
     private @Nullable ClickEvent clickEvent;
     private @Nullable HoverEvent<?> hoverEvent;
+    private long modifications;
+    private @Nullable BaseComponent owner;
+    private @Nullable CachedHash cachedHash;
 
     protected BaseComponent() {
         this(Collections.emptyList(), new TextFormat());
@@ -39,87 +57,128 @@ public abstract class BaseComponent implements Component {
 
     protected BaseComponent(List<Component> siblings, TextFormat textFormat) {
         this.siblings = new ArrayList<>(siblings);
-        this.textFormat = Objects.requireNonNull(textFormat, "Text format can not be null");
+        this.siblings.forEach(this::adopt);
+        this.style = Objects.requireNonNull(textFormat, "Text format can not be null").toStyle();
     }
 
+    /**
+     * Returns mutable text format of this component, the text format
+     * is created on first request and its changes are reflected by the component.
+     *
+     * @return text format of the component
+     */
     @Override
     public TextFormat getTextFormat() {
+        if (textFormat == null) textFormat = new TextFormat(style, this::invalidateHash);
         return textFormat;
     }
 
+    /**
+     * Changes the text format of this component, the values of
+     * the text format are copied, later changes of the text format
+     * are not reflected by the component.
+     *
+     * @param textFormat new text format
+     */
     @Override
     public void setTextFormat(TextFormat textFormat) {
-        this.textFormat = Objects.requireNonNull(textFormat, "Text format can not be null");
+        setTextStyle(Objects.requireNonNull(textFormat, "Text format can not be null").toStyle());
+    }
+
+    @Override
+    public TextStyle getTextStyle() {
+        return textFormat != null ? textFormat.toStyle() : style;
+    }
+
+    @Override
+    public void setTextStyle(TextStyle style) {
+        Objects.requireNonNull(style, "Text style can not be null");
+        markModified(textFormat != null ? textFormat.getModificationCount() : 0);
+        this.style = style;
+        textFormat = null;
     }
 
     @Override
     public Optional<Colour> getColor() {
-        return textFormat.getColor();
+        return getTextStyle().getColor();
     }
 
     @Override
     public void setColor(@Nullable Colour color) {
-        textFormat.setColor(color);
+        if (textFormat != null) textFormat.setColor(color);
+        else updateStyle(style.withColor(color));
     }
 
     @Override
     public Optional<Boolean> isBold() {
-        return textFormat.getStyle(ChatStyle.BOLD);
+        return getTextStyle().getStyle(ChatStyle.BOLD);
     }
 
     @Override
     public void setBold(@Nullable Boolean bold) {
-        textFormat.setStyle(ChatStyle.BOLD, bold);
+        setStyle(ChatStyle.BOLD, bold);
     }
 
     @Override
     public Optional<Boolean> isObfuscated() {
-        return textFormat.getStyle(ChatStyle.OBFUSCATED);
+        return getTextStyle().getStyle(ChatStyle.OBFUSCATED);
     }
 
     @Override
     public void setObfuscated(@Nullable Boolean obfuscated) {
-        textFormat.setStyle(ChatStyle.OBFUSCATED, obfuscated);
+        setStyle(ChatStyle.OBFUSCATED, obfuscated);
     }
 
     @Override
     public Optional<Boolean> isItalic() {
-        return textFormat.getStyle(ChatStyle.ITALIC);
+        return getTextStyle().getStyle(ChatStyle.ITALIC);
     }
 
     @Override
     public void setItalic(@Nullable Boolean italic) {
-        textFormat.setStyle(ChatStyle.ITALIC, italic);
+        setStyle(ChatStyle.ITALIC, italic);
     }
 
     @Override
     public Optional<Boolean> isUnderlined() {
-        return textFormat.getStyle(ChatStyle.UNDERLINED);
+        return getTextStyle().getStyle(ChatStyle.UNDERLINED);
     }
 
     @Override
     public void setUnderlined(@Nullable Boolean underlined) {
-        textFormat.setStyle(ChatStyle.UNDERLINED, underlined);
+        setStyle(ChatStyle.UNDERLINED, underlined);
     }
 
     @Override
     public Optional<Boolean> isStrikethrough() {
-        return textFormat.getStyle(ChatStyle.STRIKETHROUGH);
+        return getTextStyle().getStyle(ChatStyle.STRIKETHROUGH);
     }
 
     @Override
     public void setStrikethrough(@Nullable Boolean strikethrough) {
-        textFormat.setStyle(ChatStyle.STRIKETHROUGH, strikethrough);
+        setStyle(ChatStyle.STRIKETHROUGH, strikethrough);
     }
 
     @Override
     public Optional<String> getFont() {
-        return textFormat.getFont();
+        return getTextStyle().getFont();
     }
 
     @Override
     public void setFont(@Nullable String font) {
-        textFormat.setFont(font);
+        if (textFormat != null) textFormat.setFont(font);
+        else updateStyle(style.withFont(font));
+    }
+
+    private void setStyle(ChatStyle chatStyle, @Nullable Boolean flag) {
+        if (textFormat != null) textFormat.setStyle(chatStyle, flag);
+        else updateStyle(style.withStyle(chatStyle, flag));
+    }
+
+    private void updateStyle(TextStyle style) {
+        if (style == this.style) return;
+        this.style = style;
+        markModified();
     }
 
     @Override
@@ -130,6 +189,7 @@ public abstract class BaseComponent implements Component {
     @Override
     public void setInsertion(@Nullable String insertion) {
         this.insertion = insertion;
+        markModified();
     }
 
     @Override
@@ -140,6 +200,7 @@ public abstract class BaseComponent implements Component {
     @Override
     public void setClickEvent(@Nullable ClickEvent clickEvent) {
         this.clickEvent = clickEvent;
+        markModified();
     }
 
     @Override
@@ -147,9 +208,28 @@ public abstract class BaseComponent implements Component {
         return Optional.ofNullable(hoverEvent);
     }
 
+    /**
+     * Changes the hover event of this component, the component keeps
+     * copies of the components used by the hover event.
+     *
+     * @param hoverEvent new hover event
+     */
     @Override
     public void setHoverEvent(@Nullable HoverEvent<?> hoverEvent) {
-        this.hoverEvent = hoverEvent;
+        markModified(modificationCount(this.hoverEvent));
+        Component previous = hoverComponent(this.hoverEvent);
+        if (previous != null) release(previous);
+        this.hoverEvent = hoverEvent != null ? adoptCopy(hoverEvent) : null;
+    }
+
+    private HoverEvent<?> adoptCopy(HoverEvent<?> hoverEvent) {
+        return switch (hoverEvent.contents()) {
+            case HoverEvent.Text text when !(text.component() instanceof ImmutableComponent) ->
+                    new HoverEvent<>(HoverEvent.SHOW_TEXT, new HoverEvent.Text(adopt(text.component().clone())));
+            case HoverEvent.Entity entity when entity.name() != null && !(entity.name() instanceof ImmutableComponent) ->
+                    new HoverEvent<>(HoverEvent.SHOW_ENTITY, new HoverEvent.Entity(entity.id(), entity.type(), adopt(entity.name().clone())));
+            default -> hoverEvent;
+        };
     }
 
     @Override
@@ -157,6 +237,11 @@ public abstract class BaseComponent implements Component {
         return Collections.unmodifiableList(siblings);
     }
 
+    @Override
+    public boolean hasSiblings() {
+        return !siblings.isEmpty();
+    }
+
     @Override
     public BaseComponent append(String literal) {
         return (BaseComponent) Component.super.append(literal);
@@ -169,19 +254,37 @@ public abstract class BaseComponent implements Component {
 
     @Override
     public BaseComponent append(Component component) {
-        siblings.add(component.clone());
+        siblings.add(adopt(component.clone()));
+        markModified();
         return this;
     }
 
+    /**
+     * Adds new child component without creating its copy.
+     *
+     * @param component component to add, must not be shared with other components
+     */
+    void addSibling(Component component) {
+        siblings.add(adopt(component));
+        markModified();
+    }
+
     @Override
     public void clearSiblings() {
+        long removed = 0;
+        for (Component sibling : siblings) {
+            removed += Math.max(sibling.getModificationCount(), 0);
+            release(sibling);
+        }
         siblings.clear();
+        markModified(removed);
     }
 
     @Override
     public void inheritFrom(Component parent) {
         Objects.requireNonNull(parent, "Parent component can not be null");
-        textFormat.inheritFrom(parent.getTextFormat());
+        if (textFormat != null) textFormat.inheritFrom(parent.getTextFormat());
+        else updateStyle(style.inheritFrom(parent.getTextStyle()));
         getInsertion().ifPresentOrElse(k -> {}, () -> setInsertion(parent.getInsertion().orElse(null)));
         getClickEvent().ifPresentOrElse(k -> {}, () -> setClickEvent(parent.getClickEvent().orElse(null)));
         getHoverEvent().ifPresentOrElse(k -> {}, () -> setHoverEvent(parent.getHoverEvent().orElse(null)));
@@ -192,10 +295,11 @@ public abstract class BaseComponent implements Component {
         Objects.requireNonNull(other, "Other component can not be null");
         if (other.hasSiblings()) {
             clearSiblings();
-            other.getSiblings().forEach(sibling -> append(sibling.clone()));
+            other.getSiblings().forEach(this::append);
         }
 
-        textFormat.merge(other.getTextFormat());
+        if (textFormat != null) textFormat.merge(other.getTextFormat());
+        else updateStyle(style.merge(other.getTextStyle()));
 
         other.getInsertion().ifPresent(this::setInsertion);
         other.getClickEvent().ifPresent(this::setClickEvent);
@@ -211,27 +315,13 @@ public abstract class BaseComponent implements Component {
 
     @Override
     public String toLegacyString() {
-        List<Component> components = toFlatList();
-        StringBuilder builder = new StringBuilder();
-        for (Component component : components) {
-            TextFormat format = component.getTextFormat();
-            format.getColor().ifPresent(color -> {
-                if (color.isDefaultColor()) {
-                    builder.append(color);
-                } else {
-                    builder.append("&x&").append(String.join("&", color.getHexString().split("")));
-                }
-            });
-            for (ChatStyle style : format.getStyles(true))
-                builder.append(style);
-            builder.append(component.getString());
-        }
-        return builder.toString();
+        return LegacyRenderer.SECTION.render(this);
     }
 
     private static void addSeparatedComponents(Component parent, Consumer<Component> consumer) {
         consumer.accept(parent);
         for (Component child : parent.getSiblings()) {
+            if (child instanceof ImmutableComponent immutable) child = immutable.toMutable();
             child.inheritFrom(parent);
             addSeparatedComponents(child, consumer);
         }
@@ -245,7 +335,7 @@ public abstract class BaseComponent implements Component {
     @MustBeInvokedByOverriders
     public ComponentProperties getProperties() {
         ComponentProperties properties = new ComponentProperties();
-        properties.copyAll(textFormat.getProperties());
+        getTextStyle().writeFields(properties);
         getInsertion().ifPresent(insertion -> properties.set("insertion", insertion));
         getClickEvent().ifPresent(clickEvent -> properties.set("clickEvent", clickEvent.getProperties()));
         getHoverEvent().ifPresent(hoverEvent -> properties.set("hoverEvent", hoverEvent.getProperties()));
@@ -256,10 +346,40 @@ public abstract class BaseComponent implements Component {
         return properties;
     }
 
+    @Override
+    public void writeProperties(PropertiesWriter writer) {
+        writer.beginProperties();
+        writeFields(writer);
+        writer.endProperties();
+    }
+
+    /**
+     * Writes properties of this component to the writer, the output
+     * has to match the structure of {@link #getProperties()}.
+     * <p>
+     * Implementations should write their own properties first, the
+     * properties of the base component are followed by its siblings.
+     *
+     * @param writer writer
+     */
+    @MustBeInvokedByOverriders
+    protected void writeFields(PropertiesWriter writer) {
+        getTextStyle().writeFields(writer);
+        writer.property("insertion", insertion);
+        writer.property("clickEvent", clickEvent);
+        writer.property("hoverEvent", hoverEvent);
+        if (siblings.isEmpty()) return;
+        writer.name("extra").beginArray(siblings.size());
+        for (Component sibling : siblings) sibling.writeProperties(writer);
+        writer.endArray();
+    }
+
     @Override
     @MustBeInvokedByOverriders
     public void loadProperties(ComponentProperties properties, ComponentSerializer serializer) {
-        textFormat = new TextFormat(properties);
+        markModified(getModificationCount());
+        style = new TextFormat(properties).toStyle();
+        textFormat = null;
         setInsertion(properties.getValue("insertion", String.class).orElse(null));
         setClickEvent(properties.getValue("clickEvent", ComponentProperties.class)
                 .flatMap(ClickEvent::fromProperties)
@@ -278,16 +398,255 @@ public abstract class BaseComponent implements Component {
         });
     }
 
+    @Override
+    @MustBeInvokedByOverriders
+    public boolean loadProperty(String name, PropertiesReader reader, ComponentSerializer serializer) {
+        switch (name) {
+            case "insertion" -> setInsertion(reader.nextString());
+            case "clickEvent" -> setClickEvent(ClickEvent.fromProperties(reader).orElse(null));
+            case "hoverEvent" -> setHoverEvent(HoverEvent.fromProperties(reader, serializer).orElse(null));
+            case "extra" -> {
+                reader.beginArray();
+                while (reader.hasNext()) siblings.add(adopt(serializer.deserialize(reader)));
+                reader.endArray();
+                markModified();
+            }
+            default -> {
+                if (textFormat != null) return textFormat.loadProperty(name, reader);
+                TextStyle loaded = style.loadProperty(name, reader);
+                if (loaded == null) return false;
+                updateStyle(loaded);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns number of modifications of this component, its text format,
+     * hover event, and children.
+     * <p>
+     * The count is summed over the whole component tree on each call, so
+     * it is linear in the size of the tree.
+     * <p>
+     * Implementations with additional component parts should add
+     * modifications of those parts.
+     *
+     * @return number of modifications of this component
+     */
+    @Override
+    @MustBeInvokedByOverriders
+    public long getModificationCount() {
+        long count = modifications + (textFormat != null ? textFormat.getModificationCount() : 0);
+        long hover = modificationCount(hoverEvent);
+        if (hover < 0) return -1;
+        count += hover;
+        for (Component sibling : siblings) {
+            long siblingCount = sibling.getModificationCount();
+            if (siblingCount < 0) return -1;
+            count += siblingCount;
+        }
+        return count;
+    }
+
+    /**
+     * Marks this component as modified.
+     * <p>
+     * Implementations have to call this method whenever they
+     * modify their state.
+     */
+    protected final void markModified() {
+        modifications++;
+        invalidateHash();
+    }
+
+    /**
+     * Marks this component as modified after it dropped some of its parts,
+     * the modifications of the dropped parts stay counted so the number of
+     * modifications never decreases.
+     *
+     * @param dropped number of modifications of the dropped parts
+     */
+    protected final void markModified(long dropped) {
+        modifications += Math.max(dropped, 0) + 1;
+        invalidateHash();
+    }
+
+    /**
+     * Makes this component the owner of a component part, modifications
+     * of the part invalidate the cached hash code of this component.
+     * <p>
+     * Implementations with additional component parts have to adopt them.
+     *
+     * @param part part of this component, must not be shared with other components
+     * @return the part
+     * @param <C> component type
+     */
+    protected final <C extends Component> C adopt(C part) {
+        if (part instanceof BaseComponent base) base.owner = this;
+        return part;
+    }
+
+    /**
+     * Releases a component part that is no longer part of this component.
+     *
+     * @param part released part
+     */
+    protected final void release(Component part) {
+        if (part instanceof BaseComponent base && base.owner == this) base.owner = null;
+    }
+
+    /**
+     * Invalidates cached hash codes of this component and components
+     * that own it.
+     * <p>
+     * Owners of a component without a cached hash code have no cached hash code
+     * either, so the invalidation stops at the first such component.
+     */
+    private void invalidateHash() {
+        for (BaseComponent component = this; component != null && component.cachedHash != null; component = component.owner)
+            component.cachedHash = null;
+    }
+
+    /**
+     * Returns number of modifications of components used by a hover event.
+     *
+     * @param hoverEvent hover event
+     * @return number of modifications of the hover event components
+     */
+    private static long modificationCount(@Nullable HoverEvent<?> hoverEvent) {
+        if (hoverEvent == null) return 0;
+        return switch (hoverEvent.contents()) {
+            case HoverEvent.Text text -> text.component().getModificationCount();
+            case HoverEvent.Entity entity -> entity.name() != null ? entity.name().getModificationCount() : 0;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Returns component used by a hover event.
+     *
+     * @param hoverEvent hover event
+     * @return component of the hover event, or null if there is none
+     */
+    private static @Nullable Component hoverComponent(@Nullable HoverEvent<?> hoverEvent) {
+        if (hoverEvent == null) return null;
+        return switch (hoverEvent.contents()) {
+            case HoverEvent.Text text -> text.component();
+            case HoverEvent.Entity entity -> entity.name();
+            default -> null;
+        };
+    }
+
+    /**
+     * Compares components field by field, the comparison is short-circuited
+     * if the cached hash codes of the components differ.
+     *
+     * @param o object
+     * @return whether the object is equal to this component
+     * @see #contentEquals(BaseComponent)
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (!(o instanceof BaseComponent that)) return false;
-        return getProperties().equals(that.getProperties());
-    }
-
+        if (!(o instanceof BaseComponent that) || getClass() != that.getClass()) return false;
+        CachedHash cached = cachedHash, otherCached = that.cachedHash;
+        if (cached != null && otherCached != null && cached.hash != otherCached.hash) return false;
+        return contentEquals(that)
+                && getTextStyle().equals(that.getTextStyle())
+                && Objects.equals(insertion, that.insertion)
+                && Objects.equals(clickEvent, that.clickEvent)
+                && Objects.equals(hoverEvent, that.hoverEvent)
+                && siblings.equals(that.siblings);
+    }
+
+    /**
+     * Returns hash code of this component, the hash code is cached
+     * until the component or any of its parts is modified.
+     * <p>
+     * The hash code is not cached if any part of the component does not
+     * report its modifications, see {@link #isHashCacheable()}.
+     *
+     * @return hash code
+     * @see #contentHashCode()
+     */
     @Override
     public int hashCode() {
+        CachedHash cached = cachedHash;
+        if (cached != null) return cached.hash;
+        int result = contentHashCode();
+        result = 31 * result + getTextStyle().hashCode();
+        result = 31 * result + Objects.hashCode(insertion);
+        result = 31 * result + Objects.hashCode(clickEvent);
+        result = 31 * result + Objects.hashCode(hoverEvent);
+        result = 31 * result + siblings.hashCode();
+        if (isHashCacheable()) cachedHash = new CachedHash(result);
+        return result;
+    }
+
+    /**
+     * Returns whether the hash code of this component can be cached, that is
+     * whether all its component parts report their modifications to this component.
+     * <p>
+     * Implementations with additional component parts have to check those
+     * parts using {@link #isHashCached(Component)}.
+     *
+     * @return whether the hash code can be cached
+     */
+    @MustBeInvokedByOverriders
+    protected boolean isHashCacheable() {
+        for (Component sibling : siblings) {
+            if (!isHashCached(sibling)) return false;
+        }
+        Component hoverComponent = hoverComponent(hoverEvent);
+        return hoverComponent == null || isHashCached(hoverComponent);
+    }
+
+    /**
+     * Returns whether a part of this component has its hash code cached
+     * and reports its modifications to this component.
+     *
+     * @param part part of this component
+     * @return whether the hash code of the part is cached
+     */
+    protected final boolean isHashCached(Component part) {
+        if (part instanceof ImmutableComponent) return true;
+        return part instanceof BaseComponent base && base.owner == this && base.cachedHash != null;
+    }
+
+    /**
+     * Compares properties specific to the implementation of the component,
+     * properties of the base component are compared by {@link #equals(Object)}.
+     * <p>
+     * The other component is always of the same class as this component.
+     * The default implementation compares component properties, implementations
+     * should compare their fields directly instead.
+     *
+     * @param other other component
+     * @return whether the specific properties are equal
+     */
+    protected boolean contentEquals(BaseComponent other) {
+        return getProperties().equals(other.getProperties());
+    }
+
+    /**
+     * Returns hash code of properties specific to the implementation of the component,
+     * properties of the base component are hashed by {@link #hashCode()}.
+     * <p>
+     * The default implementation hashes component properties, implementations
+     * should hash their fields directly instead.
+     *
+     * @return hash code of the specific properties
+     */
+    protected int contentHashCode() {
         return getProperties().hashCode();
     }
 
+    /**
+     * Cached hash code of the component.
+     *
+     * @param hash hash code
+     */
+    private record CachedHash(int hash) {
+    }
+
 }
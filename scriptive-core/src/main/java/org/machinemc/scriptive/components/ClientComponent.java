@@ -14,6 +14,10 @@ public sealed interface ClientComponent
      */
     default boolean isFullyClient() {
         for (Component child : getSiblings()) {
+            if (child instanceof ImmutableComponent immutableChild) {
+                if (!immutableChild.isFullyClient()) return false;
+                continue;
+            }
             if (!(child instanceof ClientComponent clientChild)) return false;
             if (!clientChild.isFullyClient()) return false;
         }
@@ -4,12 +4,14 @@ import org.jetbrains.annotations.Contract;
 import org.machinemc.scriptive.serialization.ComponentProperties;
 import org.machinemc.scriptive.serialization.ComponentSerializer;
 import org.machinemc.scriptive.serialization.Contents;
+import org.machinemc.scriptive.serialization.PropertiesReader;
 import org.machinemc.scriptive.events.ClickEvent;
 import org.machinemc.scriptive.events.HoverEvent;
 import org.machinemc.scriptive.style.*;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * A Component is an object that represents how text
@@ -45,9 +47,31 @@ public interface Component extends Contents, Cloneable, HoverEvent.ValueHolder<H
      */
     TextFormat getTextFormat();
 
+    /**
+     * Returns interned immutable text style with the current values of the
+     * text format of this component.
+     *
+     * @return text style of the component
+     * @see TextFormat#toStyle()
+     */
+    default TextStyle getTextStyle() {
+        return getTextFormat().toStyle();
+    }
+
     @Contract("null -> fail")
     void setTextFormat(TextFormat textFormat);
 
+    /**
+     * Changes the text format of the component to the values
+     * of given text style.
+     *
+     * @param style new text style
+     */
+    @Contract("null -> fail")
+    default void setTextStyle(TextStyle style) {
+        setTextFormat(Objects.requireNonNull(style, "Text style can not be null").toTextFormat());
+    }
+
     /**
      * @return color of the component
      */
@@ -242,6 +266,32 @@ public interface Component extends Contents, Cloneable, HoverEvent.ValueHolder<H
      */
     List<Component> toFlatList();
 
+    /**
+     * Returns iterator over this component and all its children with inherited
+     * styling, in the same order as {@link #toFlatList()}.
+     * <p>
+     * The iterator does not copy or modify any of the components, the returned
+     * {@link FlatComponent} is a view that is reused for all parts.
+     *
+     * @return flat iterator of this component
+     */
+    default FlatComponentIterator flatIterator() {
+        return new FlatComponentIterator(this);
+    }
+
+    /**
+     * Performs the action for this component and each of its children with
+     * inherited styling, in the same order as {@link #toFlatList()}.
+     *
+     * @param action action
+     * @see #flatIterator()
+     */
+    default void forEachFlat(Consumer<? super FlatComponent> action) {
+        Objects.requireNonNull(action, "Action can not be null");
+        FlatComponentIterator iterator = flatIterator();
+        while (iterator.hasNext()) action.accept(iterator.next());
+    }
+
     /**
      * @return legacy string component format
      */
@@ -257,6 +307,19 @@ public interface Component extends Contents, Cloneable, HoverEvent.ValueHolder<H
      */
     Component clone();
 
+    /**
+     * Returns number of modifications of this component and all its parts,
+     * the value increases whenever the component or any of its parts
+     * (such as text format or children) is modified.
+     * <p>
+     * Components that do not track their modifications return {@code -1}.
+     *
+     * @return number of modifications of this component
+     */
+    default long getModificationCount() {
+        return -1;
+    }
+
     /**
      * Returns type of the component.
      *
@@ -274,6 +337,21 @@ public interface Component extends Contents, Cloneable, HoverEvent.ValueHolder<H
      */
     void loadProperties(ComponentProperties properties, ComponentSerializer serializer);
 
+    /**
+     * Loads single property of this component from properties reader.
+     * <p>
+     * The value of the property is consumed only if the property is known
+     * to this component.
+     *
+     * @param name name of the property
+     * @param reader reader positioned at the value of the property
+     * @param serializer serializer
+     * @return whether the property has been loaded
+     */
+    default boolean loadProperty(String name, PropertiesReader reader, ComponentSerializer serializer) {
+        return false;
+    }
+
     @Override
     default HoverEvent.Text asHoverEventValue() {
         return new HoverEvent.Text(this);
@@ -0,0 +1,144 @@
+package org.machinemc.scriptive.components;
+
+import org.jetbrains.annotations.Nullable;
+import org.machinemc.scriptive.events.ClickEvent;
+import org.machinemc.scriptive.events.HoverEvent;
+import org.machinemc.scriptive.style.ChatStyle;
+import org.machinemc.scriptive.style.Colour;
+import org.machinemc.scriptive.style.TextStyle;
+import org.machinemc.scriptive.style.TextStyleStack;
+
+import java.util.List;
+
+/**
+ * Single part of a flattened component, the component together with
+ * the style and events it effectively has after inheriting them from its parents.
+ * <p>
+ * Flat components are views provided by {@link FlatComponentIterator}; the same instance
+ * is reused for all parts and is valid only until the iterator advances.
+ *
+ * @see Component#flatIterator()
+ */
+public final class FlatComponent {
+
+    private final FlatComponentIterator iterator;
+
+    FlatComponent(FlatComponentIterator iterator) {
+        this.iterator = iterator;
+    }
+
+    /**
+     * Returns the component of this part, its style and children are
+     * not affected by its parents.
+     *
+     * @return component
+     */
+    public Component component() {
+        return iterator.component();
+    }
+
+    /**
+     * @return text of the component without its children
+     * @see Component#getString()
+     */
+    public String text() {
+        return iterator.component().getString();
+    }
+
+    /**
+     * @return number of parents of the component within the flattened tree
+     */
+    public int depth() {
+        return iterator.depth();
+    }
+
+    /**
+     * @return effective color, or null if not set
+     */
+    public @Nullable Colour color() {
+        return iterator.styles().color();
+    }
+
+    /**
+     * @return effective font, or null if not set
+     */
+    public @Nullable String font() {
+        return iterator.styles().font();
+    }
+
+    /**
+     * @param style style
+     * @return effective value of the style, or null if not set
+     */
+    public @Nullable Boolean style(ChatStyle style) {
+        return iterator.styles().style(style);
+    }
+
+    /**
+     * @param style style
+     * @return whether the style is effectively set to true
+     */
+    public boolean is(ChatStyle style) {
+        return iterator.styles().is(style);
+    }
+
+    /**
+     * @return interned text style with the effective values
+     */
+    public TextStyle textStyle() {
+        return iterator.styles().toStyle();
+    }
+
+    /**
+     * @return effective insertion, or null if not set
+     */
+    public @Nullable String insertion() {
+        return iterator.insertion();
+    }
+
+    /**
+     * @return effective click event, or null if not set
+     */
+    public @Nullable ClickEvent clickEvent() {
+        return iterator.clickEvent();
+    }
+
+    /**
+     * @return effective hover event, or null if not set
+     */
+    public @Nullable HoverEvent<?> hoverEvent() {
+        return iterator.hoverEvent();
+    }
+
+    /**
+     * Creates detached copy of the component with the effective style and events
+     * and without children, equal to the matching entry of {@link Component#toFlatList()}.
+     *
+     * @return detached component
+     */
+    public Component toComponent() {
+        Component component = iterator.component();
+        component = component instanceof ImmutableComponent immutable
+                ? immutable.withSiblings(List.of()).toMutable()
+                : component.clone();
+        component.clearSiblings();
+        component.setTextStyle(iterator.styles().toStyle());
+        component.setInsertion(insertion());
+        component.setClickEvent(clickEvent());
+        component.setHoverEvent(hoverEvent());
+        return component;
+    }
+
+    /**
+     * @return stack with the effective style
+     */
+    TextStyleStack styles() {
+        return iterator.styles();
+    }
+
+    @Override
+    public String toString() {
+        return "FlatComponent[text='" + text() + "', style=" + textStyle() + "]";
+    }
+
+}
@@ -0,0 +1,175 @@
+package org.machinemc.scriptive.components;
+
+import org.jetbrains.annotations.Nullable;
+import org.machinemc.scriptive.events.ClickEvent;
+import org.machinemc.scriptive.events.HoverEvent;
+import org.machinemc.scriptive.style.TextStyleStack;
+
+import java.util.*;
+
+/**
+ * Iterator over a component and all its children in depth-first order,
+ * the same order as {@link Component#toFlatList()}. Same as the flat list,
+ * translation at the root is replaced by its decomposed parts.
+ * <p>
+ * Unlike {@link Component#toFlatList()}, the iterator neither copies nor modifies
+ * any component. Effective styles and events are resolved on an explicit stack while
+ * the tree is walked, and each part is exposed through a single reused {@link FlatComponent}
+ * view, which is valid only until the next call of {@link #hasNext()} or {@link #next()}.
+ * <p>
+ * The component tree must not be modified while it is iterated.
+ */
+public final class FlatComponentIterator implements Iterator<FlatComponent> {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Component root;
+    private final FlatComponent view = new FlatComponent(this);
+    private final TextStyleStack styles = new TextStyleStack();
+
+    private Component[] components = new Component[INITIAL_CAPACITY];
+    private List<?>[] children = new List<?>[INITIAL_CAPACITY];
+    private int[] nextChild = new int[INITIAL_CAPACITY];
+    private @Nullable String[] insertions = new String[INITIAL_CAPACITY];
+    private @Nullable ClickEvent[] clickEvents = new ClickEvent[INITIAL_CAPACITY];
+    private @Nullable HoverEvent<?>[] hoverEvents = new HoverEvent<?>[INITIAL_CAPACITY];
+    private int size;
+
+    // parts of the root translation, the root is replaced by them
+    private @Nullable List<Component> translationParts;
+    private int nextTranslationPart;
+
+    private boolean started;
+    private boolean ready;
+
+    /**
+     * Creates new iterator over the component and its children.
+     *
+     * @param root component
+     */
+    public FlatComponentIterator(Component root) {
+        this.root = Objects.requireNonNull(root, "Component can not be null");
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!ready) ready = advance();
+        return ready;
+    }
+
+    /**
+     * Moves to the next part and returns the reused view of it.
+     *
+     * @return view of the next part
+     */
+    @Override
+    public FlatComponent next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        ready = false;
+        return view;
+    }
+
+    private boolean advance() {
+        if (!started) {
+            started = true;
+            translationParts = translationParts(root);
+            if (translationParts == null) {
+                enter(root);
+                return true;
+            }
+        }
+        while (true) {
+            while (size > 0) {
+                int top = size - 1;
+                List<?> siblings = children[top];
+                if (nextChild[top] < siblings.size()) {
+                    enter((Component) siblings.get(nextChild[top]++));
+                    return true;
+                }
+                exit();
+            }
+            if (translationParts == null) return false;
+            if (nextTranslationPart < translationParts.size()) {
+                enter(translationParts.get(nextTranslationPart++));
+                return true;
+            }
+            // the root translation is replaced by its parts, only its children
+            // are iterated
+            translationParts = null;
+            enter(root);
+        }
+    }
+
+    private void enter(Component component) {
+        if (size == components.length) grow();
+        int parent = size - 1;
+        components[size] = component;
+        children[size] = component.hasSiblings() ? component.getSiblings() : List.of();
+        nextChild[size] = 0;
+        insertions[size] = component.getInsertion().orElse(parent >= 0 ? insertions[parent] : null);
+        clickEvents[size] = component.getClickEvent().orElse(parent >= 0 ? clickEvents[parent] : null);
+        hoverEvents[size] = component.getHoverEvent().orElse(parent >= 0 ? hoverEvents[parent] : null);
+        styles.push(component.getTextStyle());
+        size++;
+    }
+
+    private void exit() {
+        size--;
+        components[size] = null;
+        children[size] = null;
+        insertions[size] = null;
+        clickEvents[size] = null;
+        hoverEvents[size] = null;
+        styles.pop();
+    }
+
+    private void grow() {
+        int capacity = components.length << 1;
+        components = Arrays.copyOf(components, capacity);
+        children = Arrays.copyOf(children, capacity);
+        nextChild = Arrays.copyOf(nextChild, capacity);
+        insertions = Arrays.copyOf(insertions, capacity);
+        clickEvents = Arrays.copyOf(clickEvents, capacity);
+        hoverEvents = Arrays.copyOf(hoverEvents, capacity);
+    }
+
+    Component component() {
+        checkCurrent();
+        return components[size - 1];
+    }
+
+    int depth() {
+        checkCurrent();
+        return size - 1;
+    }
+
+    TextStyleStack styles() {
+        checkCurrent();
+        return styles;
+    }
+
+    @Nullable String insertion() {
+        checkCurrent();
+        return insertions[size - 1];
+    }
+
+    @Nullable ClickEvent clickEvent() {
+        checkCurrent();
+        return clickEvents[size - 1];
+    }
+
+    @Nullable HoverEvent<?> hoverEvent() {
+        checkCurrent();
+        return hoverEvents[size - 1];
+    }
+
+    private static @Nullable List<Component> translationParts(Component component) {
+        if (component instanceof ImmutableComponent immutable) component = immutable.content();
+        return component instanceof TranslationComponent translation ? translation.decomposedParts() : null;
+    }
+
+    private void checkCurrent() {
+        if (size == 0) throw new IllegalStateException("Iterator is not positioned at a component");
+    }
+
+}
@@ -0,0 +1,609 @@
+package org.machinemc.scriptive.components;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.machinemc.scriptive.events.ClickEvent;
+import org.machinemc.scriptive.events.HoverEvent;
+import org.machinemc.scriptive.serialization.ComponentProperties;
+import org.machinemc.scriptive.serialization.ComponentPropertiesWriter;
+import org.machinemc.scriptive.serialization.ComponentSerializer;
+import org.machinemc.scriptive.serialization.Contents;
+import org.machinemc.scriptive.serialization.PropertiesWriter;
+import org.machinemc.scriptive.style.ChatStyle;
+import org.machinemc.scriptive.style.Colour;
+import org.machinemc.scriptive.style.TextFormat;
+import org.machinemc.scriptive.style.TextStyle;
+import org.machinemc.scriptive.util.LegacyRenderer;
+
+import java.util.*;
+
+/**
+ * Immutable component that can be safely shared between component
+ * trees and threads.
+ * <p>
+ * Immutable components are never copied, {@link #clone()} returns the same
+ * instance, so they can be appended to any number of components (mutable or immutable)
+ * without creating a deep copy. This makes them suitable for frequently reused parts
+ * of messages, such as prefixes.
+ * <p>
+ * Methods of {@link Component} that modify the component throw {@link UnsupportedOperationException},
+ * with the exception of {@link #append(Component)} that returns a new component
+ * sharing the contents and children of this component.
+ * New immutable components can be created using {@link #builder(Component)} or {@link #toBuilder()}.
+ */
+public final class ImmutableComponent implements Component {
+
+    /**
+     * Creates immutable copy of given component and all its children.
+     * <p>
+     * If the component is already immutable, it is returned.
+     *
+     * @param component component to copy
+     * @return immutable component
+     */
+    public static ImmutableComponent of(Component component) {
+        Objects.requireNonNull(component, "Component can not be null");
+        if (component instanceof ImmutableComponent immutable) return immutable;
+        return freeze(component.clone());
+    }
+
+    /**
+     * Creates new builder with copy of contents and style of given component.
+     * <p>
+     * Children of the component are part of the builder as immutable components.
+     *
+     * @param component component
+     * @return builder
+     */
+    public static Builder builder(Component component) {
+        return of(component).toBuilder();
+    }
+
+    /**
+     * Creates immutable component from private copy of a component, the
+     * copy is detached from its children which are frozen as well.
+     *
+     * @param copy copy of the component
+     * @return immutable component
+     */
+    private static ImmutableComponent freeze(Component copy) {
+        if (!copy.hasSiblings()) return new ImmutableComponent(freezeContent(copy), List.of());
+        Component[] siblings = copy.getSiblings().toArray(new Component[0]);
+        copy.clearSiblings();
+        for (int i = 0; i < siblings.length; i++) siblings[i] = freezeCopy(siblings[i]);
+        return new ImmutableComponent(freezeContent(copy), List.of(siblings));
+    }
+
+    private static ImmutableComponent freezeCopy(Component copy) {
+        return copy instanceof ImmutableComponent immutable ? immutable : freeze(copy);
+    }
+
+    /**
+     * Freezes private copy of component contents, component values of the contents
+     * are replaced with immutable components.
+     *
+     * @param content copy of the contents without children
+     * @return the contents
+     */
+    private static Component freezeContent(Component content) {
+        content.getHoverEvent().ifPresent(hoverEvent -> content.setHoverEvent(freeze(hoverEvent)));
+        if (content instanceof TranslationComponent translation) {
+            Component[] arguments = translation.getArguments();
+            for (int i = 0; i < arguments.length; i++) arguments[i] = freezeCopy(arguments[i]);
+            translation.setArguments(arguments);
+        }
+        // computes the lazily decomposed parts of translations before
+        // the contents are shared
+        content.getString();
+        return content;
+    }
+
+    private static HoverEvent<?> freeze(HoverEvent<?> hoverEvent) {
+        return switch (hoverEvent.contents()) {
+            case HoverEvent.Text text -> new HoverEvent<>(HoverEvent.SHOW_TEXT, new HoverEvent.Text(of(text.component())));
+            case HoverEvent.Entity entity when entity.name() != null ->
+                    new HoverEvent<>(HoverEvent.SHOW_ENTITY, new HoverEvent.Entity(entity.id(), entity.type(), of(entity.name())));
+            default -> hoverEvent;
+        };
+    }
+
+    private final Component content;
+    private final TextStyle style;
+    private final @Unmodifiable List<Component> siblings;
+    private int hash;
+
+    private ImmutableComponent(Component content, @Unmodifiable List<Component> siblings) {
+        this.content = content;
+        this.style = content.getTextStyle();
+        this.siblings = siblings;
+    }
+
+    /**
+     * @return frozen contents of this component, must not be modified
+     */
+    Component content() {
+        return content;
+    }
+
+    @Override
+    public @Nullable String getName() {
+        return content.getName();
+    }
+
+    @Override
+    public List<String> getUniqueKeys() {
+        return content.getUniqueKeys();
+    }
+
+    /**
+     * Returns copy of the text format of this component.
+     *
+     * @return text format of the component
+     */
+    @Override
+    public TextFormat getTextFormat() {
+        return style.toTextFormat();
+    }
+
+    /**
+     * Returns the interned text style of this component, text styles
+     * of immutable components are computed only once.
+     *
+     * @return text style of the component
+     */
+    @Override
+    public TextStyle getTextStyle() {
+        return style;
+    }
+
+    @Override
+    public Optional<Colour> getColor() {
+        return style.getColor();
+    }
+
+    @Override
+    public Optional<Boolean> isBold() {
+        return style.getStyle(ChatStyle.BOLD);
+    }
+
+    @Override
+    public Optional<Boolean> isObfuscated() {
+        return style.getStyle(ChatStyle.OBFUSCATED);
+    }
+
+    @Override
+    public Optional<Boolean> isItalic() {
+        return style.getStyle(ChatStyle.ITALIC);
+    }
+
+    @Override
+    public Optional<Boolean> isUnderlined() {
+        return style.getStyle(ChatStyle.UNDERLINED);
+    }
+
+    @Override
+    public Optional<Boolean> isStrikethrough() {
+        return style.getStyle(ChatStyle.STRIKETHROUGH);
+    }
+
+    @Override
+    public Optional<String> getFont() {
+        return style.getFont();
+    }
+
+    @Override
+    public Optional<String> getInsertion() {
+        return content.getInsertion();
+    }
+
+    @Override
+    public Optional<ClickEvent> getClickEvent() {
+        return content.getClickEvent();
+    }
+
+    @Override
+    public Optional<HoverEvent<?>> getHoverEvent() {
+        return content.getHoverEvent();
+    }
+
+    /**
+     * Returns the extra components of this component, all of them
+     * are immutable components.
+     *
+     * @return component children
+     */
+    @Override
+    public @Unmodifiable List<Component> getSiblings() {
+        return siblings;
+    }
+
+    /**
+     * Returns new immutable component with given component appended
+     * as a child.
+     * <p>
+     * Contents and children of this component are shared with the new component,
+     * this component stays unchanged.
+     *
+     * @param component component to append
+     * @return new component
+     */
+    @Override
+    @Contract("_ -> new")
+    public ImmutableComponent append(Component component) {
+        Component[] siblings = this.siblings.toArray(new Component[this.siblings.size() + 1]);
+        siblings[siblings.length - 1] = of(component);
+        return new ImmutableComponent(content, List.of(siblings));
+    }
+
+    @Override
+    @Contract("_ -> new")
+    public ImmutableComponent append(String literal) {
+        return append(TextComponent.of(literal));
+    }
+
+    @Override
+    @Contract("_, _ -> new")
+    public ImmutableComponent append(String literal, TextFormat textFormat) {
+        return append(TextComponent.of(literal, textFormat));
+    }
+
+    /**
+     * Returns new immutable component with the same contents as this
+     * component and given children.
+     *
+     * @param siblings new children
+     * @return new component
+     */
+    @Contract("_ -> new")
+    public ImmutableComponent withSiblings(List<? extends Component> siblings) {
+        Component[] array = siblings.toArray(new Component[0]);
+        for (int i = 0; i < array.length; i++) array[i] = of(array[i]);
+        return new ImmutableComponent(content, List.of(array));
+    }
+
+    /**
+     * Returns new builder initialized with contents and children of this
+     * component.
+     *
+     * @return builder
+     */
+    public Builder toBuilder() {
+        return new Builder(content.clone(), siblings);
+    }
+
+    /**
+     * Creates mutable deep copy of this component.
+     *
+     * @return mutable component
+     */
+    public Component toMutable() {
+        Component mutable = content.clone();
+        for (Component sibling : siblings) {
+            Component child = ((ImmutableComponent) sibling).toMutable();
+            if (mutable instanceof BaseComponent base) {
+                // the child is already a private copy
+                base.addSibling(child);
+            } else {
+                mutable.append(child);
+            }
+        }
+        return mutable;
+    }
+
+    /**
+     * @return whether the contents of this component and all its children are client components
+     * @see ClientComponent#isFullyClient()
+     */
+    public boolean isFullyClient() {
+        if (!(content instanceof ClientComponent)) return false;
+        for (Component sibling : siblings) {
+            if (!((ImmutableComponent) sibling).isFullyClient()) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public List<Component> toFlatList() {
+        return toMutable().toFlatList();
+    }
+
+    @Override
+    public String toLegacyString() {
+        return LegacyRenderer.SECTION.render(this);
+    }
+
+    @Override
+    public String getString() {
+        return content.getString();
+    }
+
+    /**
+     * Immutable components are not copied.
+     *
+     * @return this component
+     */
+    @Override
+    public ImmutableComponent clone() {
+        return this;
+    }
+
+    @Override
+    public Class<? extends Component> getType() {
+        return content.getType();
+    }
+
+    /**
+     * Immutable components are never modified.
+     *
+     * @return {@code 0}
+     */
+    @Override
+    public long getModificationCount() {
+        return 0;
+    }
+
+    @Override
+    public @UnmodifiableView ComponentProperties getProperties() {
+        ComponentProperties properties;
+        if (content instanceof BaseComponent base) {
+            // fields are written straight to the result instead of copying the properties of the contents
+            properties = new ComponentProperties();
+            base.writeFields(new ComponentPropertiesWriter(properties));
+        } else {
+            properties = new ComponentProperties(content.getProperties());
+        }
+        if (!siblings.isEmpty()) {
+            ComponentProperties[] extra = siblings.stream().map(Contents::getProperties).toArray(ComponentProperties[]::new);
+            properties.set("extra", extra);
+        }
+        return properties.unmodifiableView();
+    }
+
+    @Override
+    public void writeProperties(PropertiesWriter writer) {
+        if (!(content instanceof BaseComponent base)) {
+            writer.value(getProperties());
+            return;
+        }
+        writer.beginProperties();
+        base.writeFields(writer);
+        if (!siblings.isEmpty()) {
+            writer.name("extra").beginArray(siblings.size());
+            for (Component sibling : siblings) sibling.writeProperties(writer);
+            writer.endArray();
+        }
+        writer.endProperties();
+    }
+
+    @Override
+    public void setTextFormat(TextFormat textFormat) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setColor(@Nullable Colour color) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBold(@Nullable Boolean bold) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setObfuscated(@Nullable Boolean obfuscated) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setItalic(@Nullable Boolean italic) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setUnderlined(@Nullable Boolean underlined) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setStrikethrough(@Nullable Boolean strikethrough) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setFont(@Nullable String font) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setInsertion(@Nullable String insertion) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setClickEvent(@Nullable ClickEvent clickEvent) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setHoverEvent(@Nullable HoverEvent<?> hoverEvent) {
+        throw unsupported();
+    }
+
+    @Override
+    public void clearSiblings() {
+        throw unsupported();
+    }
+
+    @Override
+    public void inheritFrom(Component parent) {
+        throw unsupported();
+    }
+
+    @Override
+    public void merge(Component other) {
+        throw unsupported();
+    }
+
+    /**
+     * Immutable components can not be modified, use {@link #toBuilder()} instead.
+     *
+     * @return never returns
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public ComponentModifier modify() {
+        throw unsupported();
+    }
+
+    @Override
+    public void loadProperties(ComponentProperties properties, ComponentSerializer serializer) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Immutable component can not be modified");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImmutableComponent that)) return false;
+        if (hash != 0 && that.hash != 0 && hash != that.hash) return false;
+        return style.equals(that.style)
+                && content.equals(that.content) && siblings.equals(that.siblings);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = 31 * content.hashCode() + siblings.hashCode();
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableComponent" + getProperties();
+    }
+
+    /**
+     * Builder of immutable components.
+     * <p>
+     * Builder can be used to create multiple components, components
+     * created by the builder are not affected by its later changes.
+     */
+    public static final class Builder {
+
+        private final Component content;
+        private final List<Component> siblings;
+
+        private Builder(Component content, List<Component> siblings) {
+            this.content = content;
+            this.siblings = new ArrayList<>(siblings);
+        }
+
+        public Builder color(@Nullable Colour color) {
+            content.setColor(color);
+            return this;
+        }
+
+        public Builder bold(@Nullable Boolean bold) {
+            content.setBold(bold);
+            return this;
+        }
+
+        public Builder italic(@Nullable Boolean italic) {
+            content.setItalic(italic);
+            return this;
+        }
+
+        public Builder underlined(@Nullable Boolean underlined) {
+            content.setUnderlined(underlined);
+            return this;
+        }
+
+        public Builder strikethrough(@Nullable Boolean strikethrough) {
+            content.setStrikethrough(strikethrough);
+            return this;
+        }
+
+        public Builder obfuscated(@Nullable Boolean obfuscated) {
+            content.setObfuscated(obfuscated);
+            return this;
+        }
+
+        public Builder style(ChatStyle style, @Nullable Boolean flag) {
+            content.setTextStyle(content.getTextStyle().withStyle(style, flag));
+            return this;
+        }
+
+        public Builder style(TextStyle style) {
+            content.setTextStyle(style);
+            return this;
+        }
+
+        public Builder insertion(@Nullable String insertion) {
+            content.setInsertion(insertion);
+            return this;
+        }
+
+        public Builder clickEvent(@Nullable ClickEvent clickEvent) {
+            content.setClickEvent(clickEvent);
+            return this;
+        }
+
+        public Builder hoverEvent(@Nullable HoverEvent<?> hoverEvent) {
+            content.setHoverEvent(hoverEvent);
+            return this;
+        }
+
+        public Builder font(@Nullable String font) {
+            content.setFont(font);
+            return this;
+        }
+
+        public Builder append(String literal) {
+            return append(TextComponent.of(literal));
+        }
+
+        public Builder append(String literal, TextFormat textFormat) {
+            return append(TextComponent.of(literal, textFormat));
+        }
+
+        /**
+         * Appends new child, immutable components are appended without
+         * creating a copy.
+         *
+         * @param component component to append
+         * @return this
+         */
+        public Builder append(Component component) {
+            siblings.add(of(component));
+            return this;
+        }
+
+        /**
+         * Clears all children of the builder.
+         *
+         * @return this
+         */
+        public Builder clearSiblings() {
+            siblings.clear();
+            return this;
+        }
+
+        /**
+         * @return new immutable component
+         */
+        public ImmutableComponent build() {
+            return new ImmutableComponent(freezeContent(content.clone()), List.copyOf(siblings));
+        }
+
+    }
+
+}
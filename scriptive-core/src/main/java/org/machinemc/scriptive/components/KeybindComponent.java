@@ -3,6 +3,8 @@ package org.machinemc.scriptive.components;
 import org.jetbrains.annotations.UnmodifiableView;
 import org.machinemc.scriptive.serialization.ComponentProperties;
 import org.machinemc.scriptive.serialization.ComponentSerializer;
+import org.machinemc.scriptive.serialization.PropertiesReader;
+import org.machinemc.scriptive.serialization.PropertiesWriter;
 import org.machinemc.scriptive.style.TextFormat;
 
 import java.util.List;
@@ -41,6 +43,7 @@ public final class KeybindComponent extends BaseComponent implements ClientCompo
      */
     public void setKeybind(String keybind) {
         this.keybind = keybind;
+        markModified();
     }
 
     @Override
@@ -103,6 +106,14 @@ public final class KeybindComponent extends BaseComponent implements ClientCompo
         keybind = properties.getValue("keybind", String.class).orElseThrow();
     }
 
+    @Override
+    public boolean loadProperty(String name, PropertiesReader reader, ComponentSerializer serializer) {
+        if (!name.equals("keybind")) return super.loadProperty(name, reader, serializer);
+        keybind = reader.nextString();
+        markModified();
+        return true;
+    }
+
     @Override
     public @UnmodifiableView ComponentProperties getProperties() {
         ComponentProperties properties = super.getProperties();
@@ -111,31 +122,20 @@ public final class KeybindComponent extends BaseComponent implements ClientCompo
     }
 
     @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (!(o instanceof KeybindComponent that)) return false;
-        return keybind.equals(that.keybind)
-
-                // base component
-                && getSiblings().equals(that.getSiblings())
-                && getTextFormat().equals(that.getTextFormat())
-                && Objects.equals(getInsertion(), that.getInsertion())
-                && Objects.equals(getClickEvent(), that.getClickEvent())
-                && Objects.equals(getHoverEvent(), that.getHoverEvent());
+    protected void writeFields(PropertiesWriter writer) {
+        writer.name("keybind").value(keybind);
+        super.writeFields(writer);
     }
 
     @Override
-    public int hashCode() {
-        int result = keybind.hashCode();
-
-        // base component
-        result = 31 * result + getSiblings().hashCode();
-        result = 31 * result + getTextFormat().hashCode();
-        result = 31 * result + Objects.hashCode(getInsertion());
-        result = 31 * result + Objects.hashCode(getClickEvent());
-        result = 31 * result + Objects.hashCode(getHoverEvent());
+    protected boolean contentEquals(BaseComponent other) {
+        KeybindComponent that = (KeybindComponent) other;
+        return keybind.equals(that.keybind);
+    }
 
-        return result;
+    @Override
+    protected int contentHashCode() {
+        return keybind.hashCode();
     }
 
     public static final class ComponentModifier extends Component.ComponentModifier<ComponentModifier, KeybindComponent> {
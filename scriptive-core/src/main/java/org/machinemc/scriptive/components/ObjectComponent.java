@@ -125,6 +125,7 @@ public abstract sealed class ObjectComponent extends BaseComponent implements Cl
          */
         public void setAtlas(@Nullable String atlas) {
             this.atlas = atlas;
+            markModified();
         }
 
         /**
@@ -139,6 +140,7 @@ public abstract sealed class ObjectComponent extends BaseComponent implements Cl
          */
         public void setSprite(String sprite) {
             this.sprite = sprite;
+            markModified();
         }
 
         @Override
@@ -198,6 +200,19 @@ public abstract sealed class ObjectComponent extends BaseComponent implements Cl
             sprite = properties.getValue("sprite", String.class).orElseThrow();
         }
 
+        @Override
+        public boolean loadProperty(String name, PropertiesReader reader, ComponentSerializer serializer) {
+            switch (name) {
+                case "atlas" -> atlas = reader.nextString();
+                case "sprite" -> sprite = reader.nextString();
+                default -> {
+                    return super.loadProperty(name, reader, serializer);
+                }
+            }
+            markModified();
+            return true;
+        }
+
         @Override
         public @UnmodifiableView ComponentProperties getProperties() {
             ComponentProperties properties = super.getProperties();
@@ -208,32 +223,24 @@ public abstract sealed class ObjectComponent extends BaseComponent implements Cl
         }
 
         @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof Atlas that)) return false;
-            return Objects.equals(atlas, that.atlas)
-                    && sprite.equals(that.sprite)
+        protected void writeFields(PropertiesWriter writer) {
+            writer.name("object").value("atlas");
+            writer.property("atlas", atlas);
+            writer.name("sprite").value(sprite);
+            super.writeFields(writer);
+        }
 
-                    // base component
-                    && getSiblings().equals(that.getSiblings())
-                    && getTextFormat().equals(that.getTextFormat())
-                    && Objects.equals(getInsertion(), that.getInsertion())
-                    && Objects.equals(getClickEvent(), that.getClickEvent())
-                    && Objects.equals(getHoverEvent(), that.getHoverEvent());
+        @Override
+        protected boolean contentEquals(BaseComponent other) {
+            Atlas that = (Atlas) other;
+            return Objects.equals(atlas, that.atlas)
+                    && sprite.equals(that.sprite);
         }
 
         @Override
-        public int hashCode() {
+        protected int contentHashCode() {
             int result = Objects.hashCode(atlas);
             result = 31 * result + sprite.hashCode();
-
-            // base component
-            result = 31 * result + getSiblings().hashCode();
-            result = 31 * result + getTextFormat().hashCode();
-            result = 31 * result + Objects.hashCode(getInsertion());
-            result = 31 * result + Objects.hashCode(getClickEvent());
-            result = 31 * result + Objects.hashCode(getHoverEvent());
-
             return result;
         }
 
@@ -324,6 +331,7 @@ public abstract sealed class ObjectComponent extends BaseComponent implements Cl
             if (!SCHEMA.validate(player))
                 throw new IllegalArgumentException(player + " is not a valid player");
             this.player = player;
+            markModified();
         }
 
         /**
@@ -338,6 +346,7 @@ public abstract sealed class ObjectComponent extends BaseComponent implements Cl
          */
         public void setHat(boolean hat) {
             this.hat = hat;
+            markModified();
         }
 
         @Override
@@ -401,6 +410,19 @@ public abstract sealed class ObjectComponent extends BaseComponent implements Cl
             hat = properties.getValue("hat", Boolean.class).orElseThrow();
         }
 
+        @Override
+        public boolean loadProperty(String name, PropertiesReader reader, ComponentSerializer serializer) {
+            switch (name) {
+                case "player" -> setPlayer(reader.nextProperty());
+                case "hat" -> hat = reader.nextBoolean();
+                default -> {
+                    return super.loadProperty(name, reader, serializer);
+                }
+            }
+            markModified();
+            return true;
+        }
+
         @Override
         public @UnmodifiableView ComponentProperties getProperties() {
             ComponentProperties properties = super.getProperties();
@@ -411,32 +433,24 @@ public abstract sealed class ObjectComponent extends BaseComponent implements Cl
         }
 
         @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof Player that)) return false;
-            return Objects.equals(player, that.player)
-                    && hat == that.hat
+        protected void writeFields(PropertiesWriter writer) {
+            writer.name("object").value("player");
+            writer.name("player").value(player);
+            writer.name("hat").value(hat);
+            super.writeFields(writer);
+        }
 
-                    // base component
-                    && getSiblings().equals(that.getSiblings())
-                    && getTextFormat().equals(that.getTextFormat())
-                    && Objects.equals(getInsertion(), that.getInsertion())
-                    && Objects.equals(getClickEvent(), that.getClickEvent())
-                    && Objects.equals(getHoverEvent(), that.getHoverEvent());
+        @Override
+        protected boolean contentEquals(BaseComponent other) {
+            Player that = (Player) other;
+            return Objects.equals(player, that.player)
+                    && hat == that.hat;
         }
 
         @Override
-        public int hashCode() {
+        protected int contentHashCode() {
             int result = Objects.hashCode(player);
-            result = 31 * result + Objects.hashCode(hat);
-
-            // base component
-            result = 31 * result + getSiblings().hashCode();
-            result = 31 * result + getTextFormat().hashCode();
-            result = 31 * result + Objects.hashCode(getInsertion());
-            result = 31 * result + Objects.hashCode(getClickEvent());
-            result = 31 * result + Objects.hashCode(getHoverEvent());
-
+            result = 31 * result + Boolean.hashCode(hat);
             return result;
         }
 
@@ -3,6 +3,8 @@ package org.machinemc.scriptive.components;
 import org.jetbrains.annotations.UnmodifiableView;
 import org.machinemc.scriptive.serialization.ComponentProperties;
 import org.machinemc.scriptive.serialization.ComponentSerializer;
+import org.machinemc.scriptive.serialization.PropertiesReader;
+import org.machinemc.scriptive.serialization.PropertiesWriter;
 import org.machinemc.scriptive.style.TextFormat;
 
 import java.util.List;
@@ -63,6 +65,7 @@ public final class TextComponent extends BaseComponent implements ClientComponen
      */
     public void setText(String text) {
         this.text = text;
+        markModified();
     }
 
     @Override
@@ -125,6 +128,14 @@ public final class TextComponent extends BaseComponent implements ClientComponen
         text = properties.getValue("text", String.class).orElseThrow();
     }
 
+    @Override
+    public boolean loadProperty(String name, PropertiesReader reader, ComponentSerializer serializer) {
+        if (!name.equals("text")) return super.loadProperty(name, reader, serializer);
+        text = reader.nextString();
+        markModified();
+        return true;
+    }
+
     @Override
     public @UnmodifiableView ComponentProperties getProperties() {
         ComponentProperties properties = super.getProperties();
@@ -133,31 +144,20 @@ public final class TextComponent extends BaseComponent implements ClientComponen
     }
 
     @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (!(o instanceof TextComponent that)) return false;
-        return text.equals(that.text)
-
-                // base component
-                && getSiblings().equals(that.getSiblings())
-                && getTextFormat().equals(that.getTextFormat())
-                && Objects.equals(getInsertion(), that.getInsertion())
-                && Objects.equals(getClickEvent(), that.getClickEvent())
-                && Objects.equals(getHoverEvent(), that.getHoverEvent());
+    protected void writeFields(PropertiesWriter writer) {
+        writer.name("text").value(text);
+        super.writeFields(writer);
     }
 
     @Override
-    public int hashCode() {
-        int result = text.hashCode();
-
-        // base component
-        result = 31 * result + getSiblings().hashCode();
-        result = 31 * result + getTextFormat().hashCode();
-        result = 31 * result + Objects.hashCode(getInsertion());
-        result = 31 * result + Objects.hashCode(getClickEvent());
-        result = 31 * result + Objects.hashCode(getHoverEvent());
+    protected boolean contentEquals(BaseComponent other) {
+        TextComponent that = (TextComponent) other;
+        return text.equals(that.text);
+    }
 
-        return result;
+    @Override
+    protected int contentHashCode() {
+        return text.hashCode();
     }
 
     public static final class ComponentModifier extends Component.ComponentModifier<ComponentModifier, TextComponent> {
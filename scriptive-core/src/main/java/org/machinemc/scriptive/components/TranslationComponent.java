@@ -6,13 +6,13 @@ import org.jetbrains.annotations.UnmodifiableView;
 import org.machinemc.scriptive.serialization.ComponentProperties;
 import org.machinemc.scriptive.serialization.ComponentProperty;
 import org.machinemc.scriptive.serialization.ComponentSerializer;
+import org.machinemc.scriptive.serialization.PropertiesReader;
+import org.machinemc.scriptive.serialization.PropertiesWriter;
 import org.machinemc.scriptive.locale.LocaleLanguage;
+import org.machinemc.scriptive.locale.TranslationTemplate;
 import org.machinemc.scriptive.style.TextFormat;
 
 import java.util.*;
-import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A component that can display translated text.
@@ -74,8 +74,6 @@ public final class TranslationComponent extends BaseComponent implements ClientC
         return new TranslationComponent(localeLanguage, translation, fallback, arguments);
     }
 
-    private static final Pattern FORMAT_PATTERN = Pattern.compile("%(?:(\\d+)\\$)?([A-Za-z%]|$)");
-
     private final @Nullable LocaleLanguage localeLanguage;
     private String translation;
     private @Nullable String fallback;
@@ -88,7 +86,7 @@ public final class TranslationComponent extends BaseComponent implements ClientC
         this.localeLanguage = localeLanguage;
         this.translation = translation;
         this.fallback = fallback;
-        this.arguments = arguments;
+        this.arguments = adoptCopies(arguments);
     }
 
     /**
@@ -129,6 +127,7 @@ public final class TranslationComponent extends BaseComponent implements ClientC
         if (this.translation.equals(translation)) return;
         decomposedParts = null;
         this.translation = translation;
+        markModified();
     }
 
     /**
@@ -145,16 +144,20 @@ public final class TranslationComponent extends BaseComponent implements ClientC
         if (Objects.equals(this.fallback, fallback)) return;
         decomposedParts = null;
         this.fallback = fallback;
+        markModified();
     }
 
     /**
-     * @return arguments
+     * @return copy of the arguments
      */
     public Component[] getArguments() {
-        return arguments;
+        return arguments.clone();
     }
 
     /**
+     * Changes the arguments of this component, the component keeps
+     * copies of the arguments.
+     *
      * @param arguments new arguments
      */
     public void setArguments(Component @Nullable ... arguments) {
@@ -162,7 +165,41 @@ public final class TranslationComponent extends BaseComponent implements ClientC
         decomposedParts = null;
         if (arguments == null) arguments = new Component[0];
         for (Component argument : arguments) Objects.requireNonNull(argument, "Argument can not be null");
-        this.arguments = arguments;
+        markModified(argumentsModificationCount());
+        for (Component argument : this.arguments) release(argument);
+        this.arguments = adoptCopies(arguments);
+    }
+
+    private Component[] adoptCopies(Component[] arguments) {
+        Component[] copies = new Component[arguments.length];
+        for (int i = 0; i < arguments.length; i++) copies[i] = adopt(arguments[i].clone());
+        return copies;
+    }
+
+    private long argumentsModificationCount() {
+        long count = 0;
+        for (Component argument : arguments) {
+            long argumentCount = argument.getModificationCount();
+            if (argumentCount < 0) return -1;
+            count += argumentCount;
+        }
+        return count;
+    }
+
+    @Override
+    public long getModificationCount() {
+        long count = super.getModificationCount();
+        long argumentsCount = argumentsModificationCount();
+        if (count < 0 || argumentsCount < 0) return -1;
+        return count + argumentsCount;
+    }
+
+    @Override
+    protected boolean isHashCacheable() {
+        for (Component argument : arguments) {
+            if (!isHashCached(argument)) return false;
+        }
+        return super.isHashCacheable();
     }
 
     @Override
@@ -192,6 +229,17 @@ public final class TranslationComponent extends BaseComponent implements ClientC
         return builder.toString();
     }
 
+    /**
+     * Returns parts of the translated text, the parts are shared
+     * by all callers and must not be modified.
+     *
+     * @return decomposed parts of the translation
+     */
+    List<Component> decomposedParts() {
+        decompose();
+        return decomposedParts;
+    }
+
     private void decompose() {
         if (decomposedParts != null) return;
 
@@ -200,62 +248,21 @@ public final class TranslationComponent extends BaseComponent implements ClientC
             return;
         }
 
-        String translation = Optional.ofNullable(fallback)
-                .map(fallback -> localeLanguage.getOrDefault(this.translation, fallback))
-                .orElse(localeLanguage.getOrDefault(this.translation));
-
-        List<Component> parts = new ArrayList<>();
-        if (decomposeTemplate(translation, parts::add)) {
-            decomposedParts = parts;
-        } else {
-            decomposedParts = List.of(componentPart(translation));
+        TranslationTemplate template = localeLanguage.getTemplate(translation, fallback);
+        List<TranslationTemplate.Segment> segments = template.segments().orElse(null);
+        if (segments == null || !template.accepts(arguments.length)) {
+            decomposedParts = List.of(componentPart(template.text()));
+            return;
         }
-    }
-
-    private boolean decomposeTemplate(String translation, Consumer<Component> consumer) {
-        Matcher matcher = FORMAT_PATTERN.matcher(translation);
-
-        int currentIndex = 0;
 
-        int offset;
-        int next;
-        for (offset = 0; matcher.find(offset); offset = next) {
-            int start = matcher.start();
-            next = matcher.end();
-            String string;
-            if (start > offset) {
-                string = translation.substring(offset, start);
-                if (string.indexOf(31) != -1)
-                    return false;
-                consumer.accept(componentPart(string));
-            }
-
-            string = matcher.group(2);
-            String otherString = translation.substring(start, next);
-            if (string.equals("%") && otherString.equals("%%")) {
-                consumer.accept(componentPart("%"));
-                continue;
-            }
-
-            if (!string.equals("s"))
-                return false;
-
-            String stringIndex = matcher.group(1);
-            int index = stringIndex != null ? Integer.parseInt(stringIndex) : currentIndex++;
-            Component argument = getArgument(index);
-            if (argument == null)
-                return false;
-            consumer.accept(argument);
+        List<Component> parts = new ArrayList<>(segments.size());
+        for (TranslationTemplate.Segment segment : segments) {
+            parts.add(switch (segment) {
+                case TranslationTemplate.Literal literal -> componentPart(literal.text());
+                case TranslationTemplate.Argument argument -> getArgument(argument.index());
+            });
         }
-
-        if (offset >= translation.length())
-            return true;
-
-        String rest = translation.substring(offset);
-        if (rest.indexOf(37) != -1)
-            return false;
-        consumer.accept(componentPart(rest));
-        return true;
+        decomposedParts = parts;
     }
 
     private Component getArgument(int index) {
@@ -268,8 +275,13 @@ public final class TranslationComponent extends BaseComponent implements ClientC
     }
 
     private Component componentPart(String part) {
+        // siblings of the translation follow the decomposed parts,
+        // they are not copied to each part
         Component component = TextComponent.of(part);
-        component.merge(this);
+        component.setTextStyle(getTextStyle());
+        component.setInsertion(getInsertion().orElse(null));
+        component.setClickEvent(getClickEvent().orElse(null));
+        component.setHoverEvent(getHoverEvent().orElse(null));
         return component;
     }
 
@@ -295,10 +307,7 @@ public final class TranslationComponent extends BaseComponent implements ClientC
             TranslationComponent translation = (TranslationComponent) other;
             setTranslation(translation.getTranslation());
             setFallback(translation.getFallback());
-            Component[] arguments = translation.getArguments();
-            for (int i = 0; i < arguments.length; i++)
-                arguments[i] = arguments[i].clone();
-            setArguments(arguments);
+            setArguments(translation.arguments);
         }
     }
 
@@ -323,15 +332,40 @@ public final class TranslationComponent extends BaseComponent implements ClientC
     public void loadProperties(ComponentProperties properties, ComponentSerializer serializer) {
         super.loadProperties(properties, serializer);
         translation = properties.getValue("translate", String.class).orElseThrow();
-        fallback = properties.getValue("translate", String.class).orElse(null);
+        fallback = properties.getValue("fallback", String.class).orElse(null);
+        for (Component argument : arguments) release(argument);
         arguments = properties.get("with", ComponentProperty.Array.class)
                 .map(array -> {
                     int length = array.value().length;
                     Component[] components = new Component[length];
                     for (int i = 0; i < length; i++)
-                        components[i] = serializer.deserialize(ComponentProperty.convertToProperties(array).value());
+                        components[i] = adopt(serializer.deserialize(ComponentProperty.convertToProperties(array.value()[i]).value()));
                     return components;
-                }).orElse(null);
+                }).orElse(new Component[0]);
+        decomposedParts = null;
+    }
+
+    @Override
+    public boolean loadProperty(String name, PropertiesReader reader, ComponentSerializer serializer) {
+        switch (name) {
+            case "translate" -> translation = reader.nextString();
+            case "fallback" -> fallback = reader.nextString();
+            case "with" -> {
+                List<Component> arguments = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) arguments.add(adopt(serializer.deserialize(reader)));
+                reader.endArray();
+                markModified(argumentsModificationCount());
+                for (Component argument : this.arguments) release(argument);
+                this.arguments = arguments.toArray(new Component[0]);
+            }
+            default -> {
+                return super.loadProperty(name, reader, serializer);
+            }
+        }
+        decomposedParts = null;
+        markModified();
+        return true;
     }
 
     @Override
@@ -347,36 +381,32 @@ public final class TranslationComponent extends BaseComponent implements ClientC
     }
 
     @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (!(o instanceof TranslationComponent that)) return false;
+    protected void writeFields(PropertiesWriter writer) {
+        writer.name("translate").value(translation);
+        writer.property("fallback", fallback);
+        if (arguments.length != 0) {
+            writer.name("with").beginArray(arguments.length);
+            for (Component argument : arguments) argument.writeProperties(writer);
+            writer.endArray();
+        }
+        super.writeFields(writer);
+    }
+
+    @Override
+    protected boolean contentEquals(BaseComponent other) {
+        TranslationComponent that = (TranslationComponent) other;
         return Objects.equals(localeLanguage, that.localeLanguage)
                 && translation.equals(that.translation)
                 && Objects.equals(fallback, that.fallback)
-                && Arrays.equals(arguments, that.arguments)
-
-                // base component
-                && getSiblings().equals(that.getSiblings())
-                && getTextFormat().equals(that.getTextFormat())
-                && Objects.equals(getInsertion(), that.getInsertion())
-                && Objects.equals(getClickEvent(), that.getClickEvent())
-                && Objects.equals(getHoverEvent(), that.getHoverEvent());
+                && Arrays.equals(arguments, that.arguments);
     }
 
     @Override
-    public int hashCode() {
+    protected int contentHashCode() {
         int result = Objects.hashCode(localeLanguage);
         result = 31 * result + translation.hashCode();
         result = 31 * result + Objects.hashCode(fallback);
         result = 31 * result + Arrays.hashCode(arguments);
-
-        // base component
-        result = 31 * result + getSiblings().hashCode();
-        result = 31 * result + getTextFormat().hashCode();
-        result = 31 * result + Objects.hashCode(getInsertion());
-        result = 31 * result + Objects.hashCode(getClickEvent());
-        result = 31 * result + Objects.hashCode(getHoverEvent());
-
         return result;
     }
 
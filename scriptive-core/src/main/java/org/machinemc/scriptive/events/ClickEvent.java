@@ -1,8 +1,11 @@
 package org.machinemc.scriptive.events;
 
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 import org.machinemc.scriptive.serialization.ComponentProperties;
 import org.machinemc.scriptive.serialization.Contents;
+import org.machinemc.scriptive.serialization.PropertiesReader;
+import org.machinemc.scriptive.serialization.PropertiesWriter;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -61,14 +64,38 @@ public record ClickEvent(Action action, String value) implements Contents {
      */
     public static Optional<ClickEvent> fromProperties(ComponentProperties properties) {
         if (!properties.contains("action")) return Optional.empty();
+        return of(properties.getValueOr("action", ""), properties.getValue("value", String.class).orElse(null));
+    }
+
+    /**
+     * Reads click event from properties reader.
+     *
+     * @param reader reader positioned at the click event properties
+     * @return click event
+     */
+    public static Optional<ClickEvent> fromProperties(PropertiesReader reader) {
+        String action = null, value = null;
+        reader.beginProperties();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "action" -> action = reader.nextString();
+                case "value" -> value = reader.nextString();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endProperties();
+        if (action == null) return Optional.empty();
+        return of(action, value);
+    }
+
+    private static Optional<ClickEvent> of(String actionName, @Nullable String value) {
         Action action;
         try {
-            action = Action.valueOf(properties.getValueOr("action", "").toUpperCase());
+            action = Action.valueOf(actionName.toUpperCase());
         } catch (Exception exception) {
             return Optional.empty();
         }
 
-        String value = properties.getValue("value", String.class).orElse(null);
         if (value == null) return Optional.empty();
         return Optional.of(new ClickEvent(action, value));
     }
@@ -81,6 +108,14 @@ public record ClickEvent(Action action, String value) implements Contents {
         return properties.unmodifiableView();
     }
 
+    @Override
+    public void writeProperties(PropertiesWriter writer) {
+        writer.beginProperties();
+        writer.name("action").value(action.name().toLowerCase());
+        writer.name("value").value(value);
+        writer.endProperties();
+    }
+
     public ClickEvent withAction(Action action) {
         return new ClickEvent(action, value);
     }
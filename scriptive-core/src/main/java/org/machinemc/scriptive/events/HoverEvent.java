@@ -6,6 +6,8 @@ import org.machinemc.scriptive.serialization.ComponentProperties;
 import org.machinemc.scriptive.serialization.ComponentProperty;
 import org.machinemc.scriptive.serialization.ComponentSerializer;
 import org.machinemc.scriptive.serialization.Contents;
+import org.machinemc.scriptive.serialization.PropertiesReader;
+import org.machinemc.scriptive.serialization.PropertiesWriter;
 import org.machinemc.scriptive.components.Component;
 
 import java.util.*;
@@ -79,6 +81,88 @@ public record HoverEvent<V extends HoverEvent.Value>(Action<V> action, V content
         return Optional.empty();
     }
 
+    /**
+     * Reads hover event from properties reader.
+     *
+     * @param reader reader positioned at the hover event properties
+     * @param serializer serializer
+     * @return hover event
+     * @param <V> hover event value type
+     */
+    @SuppressWarnings("unchecked")
+    public static <V extends HoverEvent.Value> Optional<HoverEvent<V>> fromProperties(PropertiesReader reader,
+                                                                                      ComponentSerializer serializer) {
+        String actionName = null;
+        Value contents = null;
+        ComponentProperty<?> bufferedContents = null;
+        reader.beginProperties();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "action" -> actionName = reader.nextString();
+                case "contents" -> {
+                    if (actionName == null) {
+                        bufferedContents = reader.nextProperty();
+                        continue;
+                    }
+                    Action<?> action = Action.byName(actionName);
+                    if (action != null) contents = readContents(action, reader, serializer);
+                    else reader.skipValue();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endProperties();
+
+        if (actionName == null) return Optional.empty();
+        Action<V> action = (Action<V>) Action.byName(actionName);
+        if (action == null) return Optional.empty();
+        if (contents == null && bufferedContents != null)
+            contents = readContents(action, PropertiesReader.of(bufferedContents), serializer);
+        if (contents == null) return Optional.empty();
+        return Optional.of(new HoverEvent<>(action, (V) contents));
+    }
+
+    private static @Nullable Value readContents(Action<?> action, PropertiesReader reader, ComponentSerializer serializer) {
+        if (action == SHOW_TEXT)
+            return new Text(serializer.deserialize(reader));
+
+        if (reader.peek() != PropertiesReader.Token.PROPERTIES) {
+            reader.skipValue();
+            return null;
+        }
+
+        if (action == SHOW_ITEM) {
+            String id = null, tag = null;
+            Integer count = null;
+            reader.beginProperties();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id" -> id = reader.nextString();
+                    case "count" -> count = reader.nextInt();
+                    case "tag" -> tag = reader.nextString();
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endProperties();
+            return new Item(id, Objects.requireNonNull(count, "Item count can not be null"), tag);
+        }
+
+        UUID id = null;
+        String type = null;
+        Component name = null;
+        reader.beginProperties();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id" -> id = UUID.fromString(reader.nextString());
+                case "type" -> type = reader.nextString();
+                case "name" -> name = serializer.deserialize(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endProperties();
+        return new Entity(id, type, name);
+    }
+
     @Override
     public @UnmodifiableView ComponentProperties getProperties() {
         ComponentProperties properties = new ComponentProperties();
@@ -87,6 +171,14 @@ public record HoverEvent<V extends HoverEvent.Value>(Action<V> action, V content
         return properties.unmodifiableView();
     }
 
+    @Override
+    public void writeProperties(PropertiesWriter writer) {
+        writer.beginProperties();
+        writer.name("action").value(action.name());
+        writer.property("contents", contents);
+        writer.endProperties();
+    }
+
     public HoverEvent<V> withValue(V value) {
         return new HoverEvent<>(action, value);
     }
@@ -236,6 +328,11 @@ public record HoverEvent<V extends HoverEvent.Value>(Action<V> action, V content
             return component.getProperties().unmodifiableView();
         }
 
+        @Override
+        public void writeProperties(PropertiesWriter writer) {
+            component.writeProperties(writer);
+        }
+
     }
 
     /**
@@ -268,6 +365,15 @@ public record HoverEvent<V extends HoverEvent.Value>(Action<V> action, V content
             return properties.unmodifiableView();
         }
 
+        @Override
+        public void writeProperties(PropertiesWriter writer) {
+            writer.beginProperties();
+            writer.name("id").value(id);
+            writer.name("count").value(count);
+            writer.property("tag", tag);
+            writer.endProperties();
+        }
+
     }
 
     /**
@@ -302,6 +408,15 @@ public record HoverEvent<V extends HoverEvent.Value>(Action<V> action, V content
             return properties.unmodifiableView();
         }
 
+        @Override
+        public void writeProperties(PropertiesWriter writer) {
+            writer.beginProperties();
+            writer.name("id").value(id.toString());
+            writer.property("type", type);
+            writer.property("name", name);
+            writer.endProperties();
+        }
+
     }
 
 }
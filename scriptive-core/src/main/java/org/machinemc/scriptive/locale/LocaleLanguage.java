@@ -1,8 +1,12 @@
 package org.machinemc.scriptive.locale;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Represents a language document.
@@ -11,6 +15,11 @@ public abstract class LocaleLanguage {
 
     private static final Pattern UNSUPPORTED_FORMAT_PATTERN = Pattern.compile("%(\\d+\\$)?[\\d.]*[df]");
 
+    /**
+     * Minimal number of translations compiled in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 1024;
+
     /**
      * Returns translation value for given key or the key itself in case
      * there is no value for given key.
@@ -38,6 +47,22 @@ public abstract class LocaleLanguage {
      */
     public abstract boolean has(String node);
 
+    /**
+     * Returns compiled translation template for given key or for the
+     * default value in case there is no value for given key.
+     * <p>
+     * Templates are parsed once and kept in the shared template cache,
+     * compiled locale languages return their precompiled templates.
+     *
+     * @param node translation key
+     * @param defaultValue default value to use, if null the key itself is used
+     * @return translation template
+     * @see TranslationTemplate#get(LocaleLanguage, String, String)
+     */
+    public TranslationTemplate getTemplate(String node, @Nullable String defaultValue) {
+        return TranslationTemplate.get(this, node, defaultValue);
+    }
+
     /**
      * Creates local language from resource bundle.
      *
@@ -45,13 +70,25 @@ public abstract class LocaleLanguage {
      * @return locale language
      */
     public static LocaleLanguage fromResourceBundle(ResourceBundle resourceBundle) {
+        return fromResourceBundle(resourceBundle, false);
+    }
+
+    /**
+     * Creates local language from resource bundle.
+     *
+     * @param resourceBundle resource bundle
+     * @param compiled whether the translations should be precompiled to templates
+     * @return locale language
+     * @see #fromMap(Map, boolean)
+     */
+    public static LocaleLanguage fromResourceBundle(ResourceBundle resourceBundle, boolean compiled) {
         Map<String, String> map = new HashMap<>();
         Collections.list(resourceBundle.getKeys()).forEach(key -> {
             Object o = resourceBundle.getObject(key);
             if (!(o instanceof String s)) return;
             map.put(key, s);
         });
-        return fromMap(map);
+        return fromMap(map, compiled);
     }
 
     /**
@@ -61,21 +98,76 @@ public abstract class LocaleLanguage {
      * @return locale language
      */
     public static LocaleLanguage fromMap(Map<String, String> map) {
-        Map<String, String> translations = new ConcurrentHashMap<>();
-        map.forEach((key, translation) -> translations.put(key, UNSUPPORTED_FORMAT_PATTERN.matcher(translation).replaceAll("%$1s")));
+        return fromMap(map, false);
+    }
+
+    /**
+     * Creates local language from a map.
+     * <p>
+     * Compiled locale languages parse all translations to templates when they
+     * are created, in parallel for large maps, so the translations
+     * do not have to be parsed once they are used.
+     *
+     * @param map map
+     * @param compiled whether the translations should be precompiled to templates
+     * @return locale language
+     */
+    public static LocaleLanguage fromMap(Map<String, String> map, boolean compiled) {
+        Objects.requireNonNull(map, "Map can not be null");
+        if (!compiled) {
+            Map<String, String> translations = new ConcurrentHashMap<>();
+            map.forEach((key, translation) -> translations.put(key, normalize(translation)));
+            return new LocaleLanguage() {
+
+                @Override
+                public String getOrDefault(String node, String defaultValue) {
+                    return translations.getOrDefault(node, defaultValue);
+                }
+
+                @Override
+                public boolean has(String node) {
+                    return translations.containsKey(node);
+                }
+
+            };
+        }
+
+        Stream<Map.Entry<String, String>> entries = map.entrySet().stream();
+        if (map.size() >= PARALLEL_THRESHOLD) entries = entries.parallel();
+        Map<String, TranslationTemplate> templates = entries.collect(Collectors.toUnmodifiableMap(
+                Map.Entry::getKey,
+                entry -> TranslationTemplate.parse(normalize(entry.getValue()))
+        ));
         return new LocaleLanguage() {
 
             @Override
             public String getOrDefault(String node, String defaultValue) {
-                return translations.getOrDefault(node, defaultValue);
+                TranslationTemplate template = templates.get(node);
+                return template != null ? template.text() : defaultValue;
             }
 
             @Override
             public boolean has(String node) {
-                return translations.containsKey(node);
+                return templates.containsKey(node);
+            }
+
+            @Override
+            public TranslationTemplate getTemplate(String node, @Nullable String defaultValue) {
+                TranslationTemplate template = templates.get(node);
+                return template != null ? template : super.getTemplate(node, defaultValue);
             }
 
         };
     }
 
+    /**
+     * Rewrites formats not supported by translation components to {@code %s}.
+     *
+     * @param translation translation value
+     * @return normalized translation value
+     */
+    static String normalize(String translation) {
+        return UNSUPPORTED_FORMAT_PATTERN.matcher(translation).replaceAll("%$1s");
+    }
+
 }
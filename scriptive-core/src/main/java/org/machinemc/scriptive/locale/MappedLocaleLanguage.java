@@ -0,0 +1,210 @@
+package org.machinemc.scriptive.locale;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Locale language backed by a memory-mapped language file.
+ * <p>
+ * The file contains an index of the translation keys sorted by their UTF-8 bytes followed
+ * by the UTF-8 encoded keys and values. Keys are looked up with a binary search directly
+ * in the mapped file and values are decoded only when they are requested, so the
+ * translations do not occupy the heap.
+ * <p>
+ * Layout of the file (all integers are big-endian):
+ * <pre>
+ * int magic, int version, int count
+ * count * (int keyOffset, int keyLength, int valueOffset, int valueLength)
+ * key and value bytes
+ * </pre>
+ * Offsets are relative to the start of the file.
+ *
+ * @see #write(Map, Path)
+ * @see #open(Path)
+ */
+public final class MappedLocaleLanguage extends LocaleLanguage {
+
+    /**
+     * Magic number at the start of language files.
+     */
+    public static final int MAGIC = 0x534C4E47; // SLNG
+
+    /**
+     * Version of the language file format.
+     */
+    public static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 12;
+    private static final int ENTRY_SIZE = 16;
+
+    private final ByteBuffer buffer;
+    private final int count;
+
+    private MappedLocaleLanguage(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+            throw new IllegalArgumentException("Not a language file");
+        if (buffer.getInt(4) != VERSION)
+            throw new IllegalArgumentException("Unsupported language file version " + buffer.getInt(4));
+        count = buffer.getInt(8);
+        if (count < 0 || HEADER_SIZE + (long) count * ENTRY_SIZE > buffer.capacity())
+            throw new IllegalArgumentException("Malformed language file");
+        for (int i = 0; i < count; i++) {
+            int entry = HEADER_SIZE + i * ENTRY_SIZE;
+            checkBounds(buffer.getInt(entry), buffer.getInt(entry + 4));
+            checkBounds(buffer.getInt(entry + 8), buffer.getInt(entry + 12));
+        }
+    }
+
+    /**
+     * Maps the language file to memory.
+     * <p>
+     * The file is mapped for as long as the returned locale language is reachable
+     * and must not be modified in the meantime.
+     *
+     * @param path path to the language file
+     * @return locale language backed by the file
+     * @throws IOException if the file can not be mapped
+     * @throws IllegalArgumentException if the file is not a valid language file
+     */
+    public static MappedLocaleLanguage open(Path path) throws IOException {
+        Objects.requireNonNull(path, "Path can not be null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedLocaleLanguage(buffer);
+        }
+    }
+
+    /**
+     * Writes the translations to a language file.
+     * <p>
+     * Formats not supported by translation components are rewritten the same way as
+     * with {@link LocaleLanguage#fromMap(Map)}.
+     *
+     * @param translations translations
+     * @param path path to the language file
+     * @throws IOException if the file can not be written
+     */
+    public static void write(Map<String, String> translations, Path path) throws IOException {
+        Objects.requireNonNull(translations, "Translations can not be null");
+        Objects.requireNonNull(path, "Path can not be null");
+
+        byte[][] keys = new byte[translations.size()][];
+        byte[][] values = new byte[translations.size()][];
+        Integer[] order = new Integer[translations.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : translations.entrySet()) {
+            keys[i] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            values[i] = normalize(entry.getValue()).getBytes(StandardCharsets.UTF_8);
+            order[i] = i;
+            i++;
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(keys[a], keys[b]));
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(order.length);
+            long offset = HEADER_SIZE + (long) order.length * ENTRY_SIZE;
+            for (int index : order) {
+                output.writeInt(toOffset(offset));
+                output.writeInt(keys[index].length);
+                offset += keys[index].length;
+                output.writeInt(toOffset(offset));
+                output.writeInt(values[index].length);
+                offset += values[index].length;
+            }
+            toOffset(offset);
+            for (int index : order) {
+                output.write(keys[index]);
+                output.write(values[index]);
+            }
+        }
+    }
+
+    /**
+     * Converts a {@code .properties} language file to a language file.
+     *
+     * @param properties path to the UTF-8 encoded properties file
+     * @param path path to the language file
+     * @throws IOException if the file can not be read or written
+     */
+    public static void convertProperties(Path properties, Path path) throws IOException {
+        Objects.requireNonNull(properties, "Properties path can not be null");
+        Properties loaded = new Properties();
+        try (Reader reader = Files.newBufferedReader(properties, StandardCharsets.UTF_8)) {
+            loaded.load(reader);
+        }
+        Map<String, String> translations = new HashMap<>();
+        for (String key : loaded.stringPropertyNames()) translations.put(key, loaded.getProperty(key));
+        write(translations, path);
+    }
+
+    /**
+     * @return number of translations
+     */
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public String getOrDefault(String node, String defaultValue) {
+        int entry = find(node);
+        if (entry == -1) return defaultValue;
+        byte[] value = new byte[buffer.getInt(entry + 12)];
+        buffer.get(buffer.getInt(entry + 8), value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean has(String node) {
+        return find(node) != -1;
+    }
+
+    /**
+     * Returns position of the index entry of given key.
+     *
+     * @param node translation key
+     * @return position of the entry, or -1 if there is no entry for the key
+     */
+    private int find(String node) {
+        byte[] key = node.getBytes(StandardCharsets.UTF_8);
+        int low = 0, high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entry = HEADER_SIZE + middle * ENTRY_SIZE;
+            int comparison = compare(key, buffer.getInt(entry), buffer.getInt(entry + 4));
+            if (comparison == 0) return entry;
+            if (comparison > 0) low = middle + 1;
+            else high = middle - 1;
+        }
+        return -1;
+    }
+
+    private int compare(byte[] key, int offset, int length) {
+        int common = Math.min(key.length, length);
+        for (int i = 0; i < common; i++) {
+            int comparison = Byte.compareUnsigned(key[i], buffer.get(offset + i));
+            if (comparison != 0) return comparison;
+        }
+        return key.length - length;
+    }
+
+    private void checkBounds(int offset, int length) {
+        if (offset < 0 || length < 0 || (long) offset + length > buffer.capacity())
+            throw new IllegalArgumentException("Malformed language file");
+    }
+
+    private static int toOffset(long offset) {
+        if (offset > Integer.MAX_VALUE) throw new IllegalArgumentException("Translations are too large");
+        return (int) offset;
+    }
+
+}
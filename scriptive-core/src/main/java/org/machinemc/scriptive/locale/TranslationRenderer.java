@@ -0,0 +1,217 @@
+package org.machinemc.scriptive.locale;
+
+import org.jetbrains.annotations.Nullable;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.ImmutableComponent;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.components.TranslationComponent;
+import org.machinemc.scriptive.events.HoverEvent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders translations of components on the server for a locale.
+ * <p>
+ * Locale languages are registered for their locales, rendering a component replaces all
+ * translation components in its tree (including arguments of translations and components
+ * shown by hover events) with text components containing the translated value, so
+ * a message can be rendered once for each locale instead of once for each player.
+ * Translations without a value in the locale language and without a fallback are
+ * kept as translation components, so they can still be translated by the client.
+ * <p>
+ * Rendered components are {@link ImmutableComponent immutable}, parts of the tree without
+ * any translation are shared with the original component. Components without any translation
+ * are returned as they are. Mutable components are copied once before they are rendered,
+ * immutable components are rendered without copying.
+ * <p>
+ * The renderer can be used from multiple threads.
+ */
+public class TranslationRenderer {
+
+    private final Map<Locale, LocaleLanguage> languages = new ConcurrentHashMap<>();
+    private final @Nullable Locale defaultLocale;
+
+    /**
+     * Creates new translation renderer without default locale.
+     */
+    public TranslationRenderer() {
+        this(null);
+    }
+
+    /**
+     * Creates new translation renderer.
+     *
+     * @param defaultLocale locale used if there is no locale language for the requested locale
+     */
+    public TranslationRenderer(@Nullable Locale defaultLocale) {
+        this.defaultLocale = defaultLocale;
+    }
+
+    /**
+     * Registers locale language for a locale.
+     *
+     * @param locale locale
+     * @param localeLanguage locale language
+     */
+    public void register(Locale locale, LocaleLanguage localeLanguage) {
+        Objects.requireNonNull(locale, "Locale can not be null");
+        Objects.requireNonNull(localeLanguage, "Locale language can not be null");
+        languages.put(locale, localeLanguage);
+    }
+
+    /**
+     * Unregisters locale language of a locale.
+     *
+     * @param locale locale
+     */
+    public void unregister(Locale locale) {
+        languages.remove(locale);
+    }
+
+    /**
+     * @return default locale
+     */
+    public Optional<Locale> getDefaultLocale() {
+        return Optional.ofNullable(defaultLocale);
+    }
+
+    /**
+     * Returns locale language for the locale.
+     * <p>
+     * If there is no locale language registered for the locale, locale language of
+     * its language without the country and variant is used, then the locale language
+     * of the default locale.
+     *
+     * @param locale locale
+     * @return locale language for the locale
+     */
+    public Optional<LocaleLanguage> getLanguage(Locale locale) {
+        Objects.requireNonNull(locale, "Locale can not be null");
+        LocaleLanguage language = languages.get(locale);
+        if (language == null) language = languages.get(Locale.of(locale.getLanguage()));
+        if (language == null && defaultLocale != null) language = languages.get(defaultLocale);
+        return Optional.ofNullable(language);
+    }
+
+    /**
+     * Renders translations of the component for the locale.
+     *
+     * @param component component to render
+     * @param locale locale
+     * @return rendered component, or the component itself if there
+     * is nothing to render
+     */
+    public Component render(Component component, Locale locale) {
+        Objects.requireNonNull(component, "Component can not be null");
+        return getLanguage(locale).map(language -> render(component, language)).orElse(component);
+    }
+
+    /**
+     * Renders translations of the component with the locale language.
+     *
+     * @param component component to render
+     * @param localeLanguage locale language
+     * @return rendered component, or the component itself if there
+     * is nothing to render
+     */
+    public Component render(Component component, LocaleLanguage localeLanguage) {
+        Objects.requireNonNull(component, "Component can not be null");
+        Objects.requireNonNull(localeLanguage, "Locale language can not be null");
+        ImmutableComponent immutable = ImmutableComponent.of(component);
+        ImmutableComponent rendered = renderImmutable(immutable, localeLanguage);
+        return rendered != immutable ? rendered : component;
+    }
+
+    /**
+     * Renders the immutable component.
+     *
+     * @param component component to render
+     * @param language locale language
+     * @return rendered component, or the same component if it has not changed
+     */
+    private ImmutableComponent renderImmutable(ImmutableComponent component, LocaleLanguage language) {
+        List<Component> siblings = component.getSiblings();
+        Component[] renderedSiblings = null;
+        for (int i = 0; i < siblings.size(); i++) {
+            ImmutableComponent sibling = (ImmutableComponent) siblings.get(i);
+            ImmutableComponent rendered = renderImmutable(sibling, language);
+            if (rendered == sibling) continue;
+            if (renderedSiblings == null) renderedSiblings = siblings.toArray(new Component[0]);
+            renderedSiblings[i] = rendered;
+        }
+
+        HoverEvent<?> hoverEvent = component.getHoverEvent().orElse(null);
+        HoverEvent<?> renderedHoverEvent = renderHoverEvent(hoverEvent, language);
+        boolean translation = component.getType() == TranslationComponent.class;
+        if (!translation && hoverEvent == renderedHoverEvent)
+            return renderedSiblings != null ? component.withSiblings(Arrays.asList(renderedSiblings)) : component;
+
+        Component contents = component.withSiblings(List.of()).toMutable();
+        contents.setHoverEvent(renderedHoverEvent);
+        ImmutableComponent rendered = translation
+                ? renderTranslation((TranslationComponent) contents, language)
+                : ImmutableComponent.of(contents);
+        if (siblings.isEmpty()) return rendered;
+        List<Component> children = new ArrayList<>(rendered.getSiblings());
+        children.addAll(renderedSiblings != null ? Arrays.asList(renderedSiblings) : siblings);
+        return rendered.withSiblings(children);
+    }
+
+    private ImmutableComponent renderTranslation(TranslationComponent translation, LocaleLanguage language) {
+        Component[] arguments = translation.getArguments();
+        for (int i = 0; i < arguments.length; i++)
+            arguments[i] = renderImmutable(ImmutableComponent.of(arguments[i]), language);
+
+        String key = translation.getTranslation();
+        String fallback = translation.getFallback();
+        if (fallback == null && !language.has(key)) {
+            translation.setArguments(arguments);
+            return ImmutableComponent.of(translation);
+        }
+
+        TextComponent text = TextComponent.empty();
+        text.setTextStyle(translation.getTextStyle());
+        text.setInsertion(translation.getInsertion().orElse(null));
+        text.setClickEvent(translation.getClickEvent().orElse(null));
+        text.setHoverEvent(translation.getHoverEvent().orElse(null));
+
+        TranslationTemplate template = language.getTemplate(key, fallback);
+        List<TranslationTemplate.Segment> segments = template.segments().orElse(null);
+        if (segments == null || !template.accepts(arguments.length)) {
+            text.setText(template.text());
+            return ImmutableComponent.of(text);
+        }
+
+        List<Component> parts = new ArrayList<>(segments.size());
+        for (TranslationTemplate.Segment segment : segments) {
+            switch (segment) {
+                case TranslationTemplate.Literal literal -> {
+                    if (parts.isEmpty() && text.getText().isEmpty()) text.setText(literal.text());
+                    else parts.add(TextComponent.of(literal.text()));
+                }
+                case TranslationTemplate.Argument argument -> parts.add(arguments[argument.index()]);
+            }
+        }
+        return ImmutableComponent.of(text).withSiblings(parts);
+    }
+
+    private @Nullable HoverEvent<?> renderHoverEvent(@Nullable HoverEvent<?> hoverEvent, LocaleLanguage language) {
+        if (hoverEvent == null) return null;
+        return switch (hoverEvent.contents()) {
+            case HoverEvent.Text text -> {
+                Component rendered = render(text.component(), language);
+                yield rendered != text.component() ? new HoverEvent<>(HoverEvent.SHOW_TEXT, new HoverEvent.Text(rendered)) : hoverEvent;
+            }
+            case HoverEvent.Entity entity -> {
+                if (entity.name() == null) yield hoverEvent;
+                Component rendered = render(entity.name(), language);
+                yield rendered != entity.name()
+                        ? new HoverEvent<>(HoverEvent.SHOW_ENTITY, new HoverEvent.Entity(entity.id(), entity.type(), rendered))
+                        : hoverEvent;
+            }
+            case HoverEvent.Item ignored -> hoverEvent;
+        };
+    }
+
+}
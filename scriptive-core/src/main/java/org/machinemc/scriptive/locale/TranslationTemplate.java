@@ -0,0 +1,231 @@
+package org.machinemc.scriptive.locale;
+
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translation value parsed into literal and argument segments.
+ * <p>
+ * Templates of translations looked up in a {@link LocaleLanguage} are kept in a shared
+ * bounded cache, so each translation is parsed only once and rendering a translation
+ * only substitutes its arguments. Compiled locale languages hold templates of all
+ * their translations instead.
+ *
+ * @see LocaleLanguage#getTemplate(String, String)
+ * @see LocaleLanguage#fromMap(Map, boolean)
+ */
+public final class TranslationTemplate {
+
+    /**
+     * Maximum number of templates kept in the shared cache.
+     */
+    public static final int MAX_CACHED = 4096;
+
+    private static final Pattern FORMAT_PATTERN = Pattern.compile("%(?:(\\d+)\\$)?([A-Za-z%]|$)");
+
+    private static final Map<Key, TranslationTemplate> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, TranslationTemplate> eldest) {
+            return size() > MAX_CACHED;
+        }
+    };
+
+    private final String text;
+    private final @Nullable @Unmodifiable List<Segment> segments;
+    private final int argumentCount;
+
+    private TranslationTemplate(String text, @Nullable List<Segment> segments) {
+        this.text = text;
+        this.segments = segments != null ? List.copyOf(segments) : null;
+        int argumentCount = 0;
+        if (segments != null) {
+            for (Segment segment : segments) {
+                if (segment instanceof Argument argument) argumentCount = Math.max(argumentCount, argument.index() + 1);
+            }
+        }
+        this.argumentCount = argumentCount;
+    }
+
+    /**
+     * Returns template of a translation looked up in the locale language, the template
+     * is parsed only if it is not cached yet.
+     *
+     * @param localeLanguage locale language
+     * @param key translation key
+     * @param fallback value used if the locale language has no value for the key,
+     *                 if null the key itself is used
+     * @return translation template
+     */
+    public static TranslationTemplate get(LocaleLanguage localeLanguage, String key, @Nullable String fallback) {
+        Objects.requireNonNull(localeLanguage, "Locale language can not be null");
+        Objects.requireNonNull(key, "Key can not be null");
+        Key cacheKey = new Key(localeLanguage, key, fallback);
+        synchronized (CACHE) {
+            TranslationTemplate template = CACHE.get(cacheKey);
+            if (template != null) return template;
+        }
+        TranslationTemplate template = parse(localeLanguage.getOrDefault(key, fallback != null ? fallback : key));
+        synchronized (CACHE) {
+            CACHE.put(cacheKey, template);
+        }
+        return template;
+    }
+
+    /**
+     * Removes all cached templates of the locale language, needs to be called
+     * if translations of the locale language change.
+     *
+     * @param localeLanguage locale language
+     */
+    public static void invalidate(LocaleLanguage localeLanguage) {
+        synchronized (CACHE) {
+            CACHE.keySet().removeIf(key -> key.localeLanguage == localeLanguage);
+        }
+    }
+
+    /**
+     * Removes all cached templates.
+     */
+    public static void invalidateAll() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Parses translation value into a template.
+     * <p>
+     * Supported are {@code %s} and {@code %n$s} arguments and {@code %%} escapes,
+     * values with other formats are kept as a single literal.
+     *
+     * @param text translation value
+     * @return translation template
+     */
+    public static TranslationTemplate parse(String text) {
+        Objects.requireNonNull(text, "Text can not be null");
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = FORMAT_PATTERN.matcher(text);
+
+        int currentIndex = 0;
+
+        int offset;
+        int next;
+        for (offset = 0; matcher.find(offset); offset = next) {
+            int start = matcher.start();
+            next = matcher.end();
+            if (start > offset) {
+                String string = text.substring(offset, start);
+                if (string.indexOf(31) != -1)
+                    return new TranslationTemplate(text, null);
+                segments.add(new Literal(string));
+            }
+
+            String type = matcher.group(2);
+            if (type.equals("%") && next - start == 2) {
+                segments.add(new Literal("%"));
+                continue;
+            }
+
+            if (!type.equals("s"))
+                return new TranslationTemplate(text, null);
+
+            String stringIndex = matcher.group(1);
+            segments.add(new Argument(stringIndex != null ? Integer.parseInt(stringIndex) : currentIndex++));
+        }
+
+        if (offset < text.length()) {
+            String rest = text.substring(offset);
+            if (rest.indexOf(37) != -1)
+                return new TranslationTemplate(text, null);
+            segments.add(new Literal(rest));
+        }
+        return new TranslationTemplate(text, segments);
+    }
+
+    /**
+     * @return translation value of this template
+     */
+    public String text() {
+        return text;
+    }
+
+    /**
+     * Returns segments of this template, or empty if the translation value
+     * is not a valid template and is rendered as a single literal.
+     *
+     * @return segments of this template
+     */
+    public Optional<@Unmodifiable List<Segment>> segments() {
+        return Optional.ofNullable(segments);
+    }
+
+    /**
+     * Checks whether this template can be rendered with given number of arguments,
+     * if not, the whole translation value should be rendered as a single literal.
+     *
+     * @param arguments number of arguments
+     * @return whether the segments of the template can be used
+     */
+    public boolean accepts(int arguments) {
+        return segments != null && arguments >= argumentCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TranslationTemplate[text='" + text + "', segments=" + segments + "]";
+    }
+
+    /**
+     * Segment of a translation template.
+     */
+    public sealed interface Segment permits Literal, Argument {
+    }
+
+    /**
+     * Literal text of a translation.
+     *
+     * @param text text
+     */
+    public record Literal(String text) implements Segment {
+    }
+
+    /**
+     * Argument of a translation.
+     *
+     * @param index index of the argument
+     */
+    public record Argument(int index) implements Segment {
+    }
+
+    /**
+     * Key of a cached template, locale languages are compared by identity.
+     *
+     * @param localeLanguage locale language
+     * @param key translation key
+     * @param fallback fallback value
+     */
+    private record Key(LocaleLanguage localeLanguage, String key, @Nullable String fallback) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other
+                    && other.localeLanguage == localeLanguage
+                    && other.key.equals(key)
+                    && Objects.equals(other.fallback, fallback);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(localeLanguage);
+            result = 31 * result + key.hashCode();
+            result = 31 * result + Objects.hashCode(fallback);
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.machinemc.scriptive.serialization;
+
+import org.machinemc.scriptive.components.Component;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes components to and decodes components from a binary form.
+ *
+ * @see OffHeapComponentStore
+ */
+public interface BinaryComponentCodec {
+
+    /**
+     * Writes the component to the buffer, starting at the position
+     * of the buffer.
+     *
+     * @param component component
+     * @param buffer buffer
+     * @throws java.nio.BufferOverflowException if the buffer is too small for the component
+     */
+    void write(Component component, ByteBuffer buffer);
+
+    /**
+     * Reads the component from the buffer, starting at the position
+     * of the buffer.
+     *
+     * @param buffer buffer
+     * @return component
+     */
+    Component read(ByteBuffer buffer);
+
+}
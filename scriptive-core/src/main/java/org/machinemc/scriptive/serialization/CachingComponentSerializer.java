@@ -0,0 +1,218 @@
+package org.machinemc.scriptive.serialization;
+
+import org.machinemc.scriptive.components.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Component serializer that caches serialized components.
+ * <p>
+ * Components are cached by their identity, the cached value is reused as long
+ * as the {@link Component#getModificationCount() modification count} of the component stays the same.
+ * Components that do not track their modifications are never cached.
+ * <p>
+ * The cache is bounded, least recently used entries are evicted first. Cached values are
+ * shared by all callers and must not be modified.
+ *
+ * @param <T> serialized type
+ */
+public class CachingComponentSerializer<T> {
+
+    private final ComponentSerializer componentSerializer;
+    private final PropertiesSerializer<T> propertiesSerializer;
+    private final int maximumSize;
+
+    private final Map<Key, Entry<T>> cache;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates new caching component serializer.
+     *
+     * @param componentSerializer component serializer
+     * @param propertiesSerializer properties serializer
+     * @param maximumSize maximum number of cached components
+     */
+    public CachingComponentSerializer(ComponentSerializer componentSerializer, PropertiesSerializer<T> propertiesSerializer, int maximumSize) {
+        this.componentSerializer = Objects.requireNonNull(componentSerializer, "Component serializer can not be null");
+        this.propertiesSerializer = Objects.requireNonNull(propertiesSerializer, "Properties serializer can not be null");
+        if (maximumSize < 1) throw new IllegalArgumentException("Maximum size has to be positive");
+        this.maximumSize = maximumSize;
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry<T>> eldest) {
+                if (size() <= CachingComponentSerializer.this.maximumSize) return false;
+                evictionCount++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Serializes the given component or returns its cached
+     * serialized value if the component has not changed.
+     *
+     * @param component component
+     * @return output
+     */
+    public T serialize(Component component) {
+        Objects.requireNonNull(component, "Component can not be null");
+        long modifications = component.getModificationCount();
+        Key key = new Key(component);
+        if (modifications >= 0) {
+            synchronized (cache) {
+                Entry<T> entry = cache.get(key);
+                if (entry != null && entry.modifications == modifications) {
+                    hitCount++;
+                    return entry.value;
+                }
+                missCount++;
+            }
+        } else {
+            synchronized (cache) {
+                missCount++;
+            }
+        }
+
+        T value = encode(component);
+        if (modifications < 0) return value;
+        synchronized (cache) {
+            cache.put(key, new Entry<>(modifications, value));
+        }
+        return value;
+    }
+
+    /**
+     * Serializes the component without using the cache.
+     *
+     * @param component component
+     * @return output
+     */
+    protected T encode(Component component) {
+        return componentSerializer.serialize(component, propertiesSerializer);
+    }
+
+    /**
+     * Removes the component from the cache.
+     *
+     * @param component component
+     */
+    public void invalidate(Component component) {
+        synchronized (cache) {
+            cache.remove(new Key(component));
+        }
+    }
+
+    /**
+     * Removes all components from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * @return component serializer used by this serializer
+     */
+    public ComponentSerializer getComponentSerializer() {
+        return componentSerializer;
+    }
+
+    /**
+     * @return properties serializer used by this serializer
+     */
+    public PropertiesSerializer<T> getPropertiesSerializer() {
+        return propertiesSerializer;
+    }
+
+    /**
+     * @return maximum number of cached components
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return number of currently cached components
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * @return number of serializations that used a cached value
+     */
+    public long getHitCount() {
+        synchronized (cache) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * @return number of serializations that did not use a cached value
+     */
+    public long getMissCount() {
+        synchronized (cache) {
+            return missCount;
+        }
+    }
+
+    /**
+     * @return number of components evicted from the cache
+     */
+    public long getEvictionCount() {
+        synchronized (cache) {
+            return evictionCount;
+        }
+    }
+
+    /**
+     * Returns ratio of serializations that used a cached value, or
+     * {@code 0} if nothing has been serialized yet.
+     *
+     * @return hit rate
+     */
+    public double getHitRate() {
+        synchronized (cache) {
+            long total = hitCount + missCount;
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+    }
+
+    /**
+     * Identity key of a cached component.
+     *
+     * @param component component
+     */
+    private record Key(Component component) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && key.component == component;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(component);
+        }
+
+    }
+
+    /**
+     * Cached serialized component.
+     *
+     * @param modifications modification count of the component at the time of serialization
+     * @param value serialized component
+     * @param <T> serialized type
+     */
+    private record Entry<T>(long modifications, T value) {
+    }
+
+}
@@ -15,15 +15,47 @@ import java.util.function.BiConsumer;
  */
 public sealed class ComponentProperties {
 
-    private final Map<String, ComponentProperty<?>> propertyMap = new TreeMap<>();
+    private static final String[] EMPTY_KEYS = new String[0];
+    private static final ComponentProperty<?>[] EMPTY_VALUES = new ComponentProperty<?>[0];
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Canonical instances of keys used by the vanilla components, keys of
+     * the properties are replaced with them, so maps deserialized from
+     * different sources share the key instances and can be compared by identity.
+     */
+    private static final Map<String, String> KNOWN_KEYS;
+
+    static {
+        String[] keys = {
+                "text", "translate", "fallback", "with", "keybind", "score", "selector", "separator", "nbt",
+                "object", "atlas", "sprite", "player", "hat", "interpret", "block", "entity", "storage", "source",
+                "color", "font", "bold", "italic", "underlined", "strikethrough", "obfuscated",
+                "insertion", "clickEvent", "hoverEvent", "action", "value", "contents",
+                "id", "type", "name", "count", "tag", "extra"
+        };
+        Map<String, String> map = new HashMap<>();
+        for (String key : keys) map.put(key, key);
+        KNOWN_KEYS = Map.copyOf(map);
+    }
+
+    // Properties are kept in parallel arrays sorted by their keys, components
+    // usually have just a few properties, so this is more compact than a tree map
+    // while still keeping the deterministic iteration order.
+    private String[] keys = EMPTY_KEYS;
+    private ComponentProperty<?>[] values = EMPTY_VALUES;
+    private int size;
 
     /**
      * Creates deep copy of another properties.
+     * <p>
+     * Immutable properties (strings, booleans and integers)
+     * are shared with the other properties.
      *
      * @param other properties to create copy from
      */
     public ComponentProperties(ComponentProperties other) {
-        propertyMap.putAll(other.clone().propertyMap);
+        copyAll(other);
     }
 
     public ComponentProperties() {
@@ -37,7 +69,21 @@ public sealed class ComponentProperties {
      * @return property
      */
     public Optional<ComponentProperty<?>> get(String key) {
-        return Optional.ofNullable(propertyMap.get(key));
+        return Optional.ofNullable(find(key));
+    }
+
+    /**
+     * Returns component property of this map or null in case
+     * there is no property with such a name.
+     * <p>
+     * Same as {@link #get(String)} without wrapping the property.
+     *
+     * @param key key of the property
+     * @return property or null
+     */
+    public @Nullable ComponentProperty<?> find(String key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
     }
 
     /**
@@ -51,7 +97,7 @@ public sealed class ComponentProperties {
      * @param <T> property type
      */
     public <T extends ComponentProperty<?>> Optional<T> get(String key, Class<T> type) {
-        ComponentProperty<?> property = propertyMap.get(key);
+        ComponentProperty<?> property = find(key);
         if (!type.isInstance(property)) return Optional.empty();
         return Optional.of(type.cast(property));
     }
@@ -64,7 +110,7 @@ public sealed class ComponentProperties {
      * @return property value
      */
     public Optional<Object> getValue(String key) {
-        ComponentProperty<?> property = propertyMap.get(key);
+        ComponentProperty<?> property = find(key);
         if (property == null) return Optional.empty();
         return Optional.of(property.value());
     }
@@ -80,7 +126,7 @@ public sealed class ComponentProperties {
      * @param <T> property type
      */
     public <T> Optional<T> getValue(String key, Class<T> type) {
-        ComponentProperty<?> property = propertyMap.get(key);
+        ComponentProperty<?> property = find(key);
         if (property == null) return Optional.empty();
         Object value = property.value();
         if (!type.isInstance(value)) return Optional.empty();
@@ -100,7 +146,7 @@ public sealed class ComponentProperties {
     @Contract("_, null -> fail")
     @SuppressWarnings("unchecked")
     public <T extends ComponentProperty<?>> T getOr(String key, T or) {
-        ComponentProperty<?> property = propertyMap.get(key);
+        ComponentProperty<?> property = find(key);
         if (!or.getClass().isInstance(property)) return or;
         return (T) property;
     }
@@ -118,13 +164,37 @@ public sealed class ComponentProperties {
     @Contract("_, null -> fail")
     @SuppressWarnings("unchecked")
     public <T> T getValueOr(String key, T or) {
-        ComponentProperty<?> property = propertyMap.get(key);
+        ComponentProperty<?> property = find(key);
         if (property == null) return or;
         Object value = property.value();
         if (!or.getClass().isInstance(value)) return or;
         return (T) value;
     }
 
+    /**
+     * Returns boolean value of the property or the default value in case
+     * there is no property with such a name or it is not a boolean property.
+     *
+     * @param key key of the property
+     * @param defaultValue default value
+     * @return value of the property
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return find(key) instanceof ComponentProperty.Boolean property ? property.booleanValue() : defaultValue;
+    }
+
+    /**
+     * Returns integer value of the property or the default value in case
+     * there is no property with such a name or it is not an integer property.
+     *
+     * @param key key of the property
+     * @param defaultValue default value
+     * @return value of the property
+     */
+    public int getInt(String key, int defaultValue) {
+        return find(key) instanceof ComponentProperty.Integer property ? property.intValue() : defaultValue;
+    }
+
     /**
      * Returns unwrapped component property of this map if the wrapped property
      * matches the provided class, or empty in case there is no property with
@@ -148,12 +218,17 @@ public sealed class ComponentProperties {
      * @param <T> property type
      */
     public <T extends ComponentProperty<?>> void set(String key, @Nullable T value) {
+        int index = indexOf(key);
         if (value == null) {
-            propertyMap.remove(key);
+            if (index >= 0) remove(index);
             return;
         }
         if (value.value() == null) throw new IllegalArgumentException();
-        propertyMap.put(key, value);
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+        insert(-index - 1, key, value);
     }
 
     /**
@@ -181,7 +256,7 @@ public sealed class ComponentProperties {
             set(key, (ComponentProperty<?>) null);
             return;
         }
-        set(key, new ComponentProperty.Boolean(value));
+        set(key, ComponentProperty.bool(value));
     }
 
     /**
@@ -195,7 +270,7 @@ public sealed class ComponentProperties {
             set(key, (ComponentProperty<?>) null);
             return;
         }
-        set(key, new ComponentProperty.Integer(value));
+        set(key, ComponentProperty.integer(value));
     }
 
     /**
@@ -248,16 +323,19 @@ public sealed class ComponentProperties {
      * @return whether the property map contains given key
      */
     public boolean contains(String key) {
-        return propertyMap.containsKey(key);
+        return indexOf(key) >= 0;
     }
 
     /**
      * Copies all properties from another map.
+     * <p>
+     * Immutable properties (strings, booleans and integers)
+     * are shared with the other map, other properties are copied.
      *
      * @param properties properties to copy
      */
     public void copyAll(ComponentProperties properties) {
-        propertyMap.putAll(properties.clone().propertyMap);
+        properties.forEach((key, property) -> set(key, property.clone()));
     }
 
     /**
@@ -268,30 +346,43 @@ public sealed class ComponentProperties {
      */
     @Deprecated(forRemoval = true)
     public void clear(ComponentProperties properties) {
-        propertyMap.clear();
+        clear();
     }
 
     /**
      * Clears all properties from this map.
      */
     public void clear() {
-        propertyMap.clear();
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * @return number of properties in this map
+     */
+    public int size() {
+        return size;
     }
 
     /**
      * @return set of all keys in this map
      */
     public @Unmodifiable Set<String> getKeys() {
-        return Collections.unmodifiableSet(propertyMap.keySet());
+        return new KeySet();
     }
 
     /**
-     * Performs an action for each property in this map.
+     * Performs an action for each property in this map, the
+     * properties are iterated in the order of their keys.
      *
      * @param consumer action
      */
     public void forEach(BiConsumer<String, ComponentProperty<?>> consumer) {
-        propertyMap.forEach(consumer);
+        String[] keys = this.keys;
+        ComponentProperty<?>[] values = this.values;
+        int size = this.size;
+        for (int i = 0; i < size; i++) consumer.accept(keys[i], values[i]);
     }
 
     /**
@@ -304,7 +395,11 @@ public sealed class ComponentProperties {
     @Override
     public ComponentProperties clone() {
         ComponentProperties clone = new ComponentProperties();
-        propertyMap.forEach((key, value) -> clone.propertyMap.put(key, value.clone()));
+        if (size == 0) return clone;
+        clone.keys = Arrays.copyOf(keys, size);
+        clone.values = new ComponentProperty<?>[size];
+        for (int i = 0; i < size; i++) clone.values[i] = values[i].clone();
+        clone.size = size;
         return clone;
     }
 
@@ -312,29 +407,122 @@ public sealed class ComponentProperties {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof ComponentProperties that)) return false;
-        return propertyMap.equals(that.propertyMap);
+        if (o instanceof ComponentProperties.View view) that = view.owner();
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (!keys[i].equals(that.keys[i])) return false;
+            if (!values[i].equals(that.values[i])) return false;
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return propertyMap.hashCode();
+        // same as the hash code of a map with the properties
+        int hash = 0;
+        for (int i = 0; i < size; i++) hash += keys[i].hashCode() ^ values[i].hashCode();
+        return hash;
     }
 
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder("ComponentProperties[");
-        boolean first = true;
-        for (Map.Entry<String, ComponentProperty<?>> entry : propertyMap.entrySet()) {
-            if (!first)
+        for (int i = 0; i < size; i++) {
+            if (i != 0)
                 builder.append(", ");
-            builder.append(entry.getKey()).append('=').append(entry.getValue());
-            first = false;
+            builder.append(keys[i]).append('=').append(values[i]);
         }
         return builder.append(']').toString();
     }
 
+    /**
+     * Returns index of the key, or {@code -(insertion point) - 1}
+     * if there is no such key in this map.
+     *
+     * @param key key
+     * @return index of the key
+     */
+    private int indexOf(String key) {
+        Objects.requireNonNull(key, "Key can not be null");
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            String current = keys[mid];
+            if (current == key) return mid;
+            int comparison = current.compareTo(key);
+            if (comparison < 0) low = mid + 1;
+            else if (comparison > 0) high = mid - 1;
+            else return mid;
+        }
+        return -(low + 1);
+    }
+
+    private void insert(int index, String key, ComponentProperty<?> value) {
+        if (size == keys.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        keys[index] = KNOWN_KEYS.getOrDefault(key, key);
+        values[index] = value;
+        size++;
+    }
+
+    private void remove(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    private final class KeySet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public String next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    return keys[index++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String key && indexOf(key) >= 0;
+        }
+
+    }
+
     final class View extends ComponentProperties {
 
+        @Override
+        public Optional<ComponentProperty<?>> get(String key) {
+            return ComponentProperties.this.get(key);
+        }
+
+        @Override
+        public @Nullable ComponentProperty<?> find(String key) {
+            return ComponentProperties.this.find(key);
+        }
+
         @Override
         public <T extends ComponentProperty<?>> Optional<T> get(String key, Class<T> type) {
             return ComponentProperties.this.get(key, type);
@@ -350,6 +538,26 @@ public sealed class ComponentProperties {
             return ComponentProperties.this.getValueOr(key, or);
         }
 
+        @Override
+        public Optional<Object> getValue(String key) {
+            return ComponentProperties.this.getValue(key);
+        }
+
+        @Override
+        public <T> Optional<T> getValue(String key, Class<T> type) {
+            return ComponentProperties.this.getValue(key, type);
+        }
+
+        @Override
+        public boolean getBoolean(String key, boolean defaultValue) {
+            return ComponentProperties.this.getBoolean(key, defaultValue);
+        }
+
+        @Override
+        public int getInt(String key, int defaultValue) {
+            return ComponentProperties.this.getInt(key, defaultValue);
+        }
+
         @Override
         public <T extends ComponentProperty<?>> void set(String key, @Nullable T value) {
             throw new UnsupportedOperationException();
@@ -370,6 +578,16 @@ public sealed class ComponentProperties {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int size() {
+            return ComponentProperties.this.size();
+        }
+
         @Override
         public @Unmodifiable Set<String> getKeys() {
             return ComponentProperties.this.getKeys();
@@ -405,6 +623,10 @@ public sealed class ComponentProperties {
             return ComponentProperties.this.toString();
         }
 
+        private ComponentProperties owner() {
+            return ComponentProperties.this;
+        }
+
     }
 
 }
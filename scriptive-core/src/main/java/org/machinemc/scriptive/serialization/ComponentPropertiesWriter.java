@@ -0,0 +1,136 @@
+package org.machinemc.scriptive.serialization;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Properties writer that writes to {@link ComponentProperties}.
+ * <p>
+ * Properties written outside any nested object or array are set directly
+ * on the target properties, so contents can write their fields to an existing
+ * map without building and copying their own properties first.
+ */
+public class ComponentPropertiesWriter implements PropertiesWriter {
+
+    private final ComponentProperties target;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private @Nullable String name;
+
+    /**
+     * Creates new properties writer.
+     *
+     * @param target properties to write to
+     */
+    public ComponentPropertiesWriter(ComponentProperties target) {
+        this.target = Objects.requireNonNull(target, "Target properties can not be null");
+    }
+
+    /**
+     * @return properties this writer writes to
+     */
+    public ComponentProperties getTarget() {
+        return target;
+    }
+
+    @Override
+    public ComponentPropertiesWriter beginProperties() {
+        // the outermost properties object is the target itself
+        if (frames.isEmpty() && name == null) return this;
+        String name = takeName();
+        frames.push(new Frame(new ComponentProperties(), null, name));
+        return this;
+    }
+
+    @Override
+    public ComponentPropertiesWriter endProperties() {
+        if (frames.isEmpty()) return this;
+        Frame frame = frames.pop();
+        if (frame.properties() == null) throw new IllegalStateException("Expected end of array");
+        return add(frame.name(), ComponentProperty.properties(frame.properties()));
+    }
+
+    @Override
+    public ComponentPropertiesWriter beginArray(int size) {
+        String name = takeName();
+        frames.push(new Frame(null, new ArrayList<>(size), name));
+        return this;
+    }
+
+    @Override
+    public ComponentPropertiesWriter endArray() {
+        Frame frame = frames.poll();
+        if (frame == null || frame.elements() == null) throw new IllegalStateException("Expected end of properties");
+        return add(frame.name(), ComponentProperty.array(frame.elements().toArray(ComponentProperty<?>[]::new)));
+    }
+
+    @Override
+    public ComponentPropertiesWriter name(String name) {
+        Objects.requireNonNull(name, "Name can not be null");
+        Frame frame = frames.peek();
+        if (frame != null && frame.elements() != null) throw new IllegalStateException("Array elements can not be named");
+        this.name = name;
+        return this;
+    }
+
+    @Override
+    public ComponentPropertiesWriter value(String value) {
+        return add(takeName(), ComponentProperty.string(value));
+    }
+
+    @Override
+    public ComponentPropertiesWriter value(boolean value) {
+        return add(takeName(), ComponentProperty.bool(value));
+    }
+
+    @Override
+    public ComponentPropertiesWriter value(int value) {
+        return add(takeName(), ComponentProperty.integer(value));
+    }
+
+    @Override
+    public ComponentPropertiesWriter value(ComponentProperties properties) {
+        if (frames.isEmpty() && name == null) {
+            PropertiesWriter.super.value(properties);
+            return this;
+        }
+        return add(takeName(), ComponentProperty.properties(properties));
+    }
+
+    private @Nullable String takeName() {
+        Frame frame = frames.peek();
+        if (frame != null && frame.elements() != null) return null;
+        if (name == null) throw new IllegalStateException("Expected property name");
+        String taken = name;
+        name = null;
+        return taken;
+    }
+
+    private ComponentPropertiesWriter add(@Nullable String name, ComponentProperty<?> property) {
+        Frame frame = frames.peek();
+        if (frame != null && frame.elements() != null) {
+            frame.elements().add(property);
+            return this;
+        }
+        ComponentProperties properties = frame != null ? frame.properties() : target;
+        Objects.requireNonNull(properties).set(Objects.requireNonNull(name), property);
+        return this;
+    }
+
+    /**
+     * Object or array that is being written.
+     *
+     * @param properties properties of the object, null for arrays
+     * @param elements elements of the array, null for objects
+     * @param name name of the property in the enclosing object, null for array elements
+     */
+    private record Frame(@Nullable ComponentProperties properties,
+                         @Nullable List<ComponentProperty<?>> elements,
+                         @Nullable String name) {
+    }
+
+}
@@ -17,15 +17,15 @@ public sealed interface ComponentProperty<Value> {
 
     /**
      * @param value boolean value
-     * @return boolean property
+     * @return shared boolean property
      */
-    static Boolean bool(java.lang.Boolean value) { return new Boolean(value); }
+    static Boolean bool(boolean value) { return value ? Boolean.TRUE : Boolean.FALSE; }
 
     /**
      * @param value integer value
-     * @return integer property
+     * @return integer property, shared for small values
      */
-    static Integer integer(java.lang.Integer value) { return new Integer(value); }
+    static Integer integer(int value) { return Integer.of(value); }
 
     /**
      * @param value properties value
@@ -104,8 +104,8 @@ public sealed interface ComponentProperty<Value> {
     static <Type, Property extends ComponentProperty<Type>> Property of(Type object) {
         return (Property) switch (object) {
             case java.lang.String s -> new String(s);
-            case java.lang.Boolean b -> new Boolean(b);
-            case java.lang.Integer i -> new Integer(i);
+            case java.lang.Boolean b -> bool(b);
+            case java.lang.Integer i -> integer(i);
             case ComponentProperties properties -> new Properties(properties);
             case @SuppressWarnings("rawtypes") ComponentProperty[] properties -> new Array(properties);
             case ComponentProperties[] properties -> array(properties);
@@ -121,6 +121,9 @@ public sealed interface ComponentProperty<Value> {
     Value value();
 
     /**
+     * Returns copy of this property, immutable properties
+     * (strings, booleans and integers) return themselves.
+     *
      * @return copy of this property
      */
     ComponentProperty<Value> clone();
@@ -136,7 +139,7 @@ public sealed interface ComponentProperty<Value> {
 
         @Override
         public String clone() {
-            return new String(value);
+            return this;
         }
 
     }
@@ -146,13 +149,30 @@ public sealed interface ComponentProperty<Value> {
      */
     record Boolean(java.lang.Boolean value) implements ComponentProperty<java.lang.Boolean> {
 
+        /**
+         * Shared {@code true} property.
+         */
+        public static final Boolean TRUE = new Boolean(true);
+
+        /**
+         * Shared {@code false} property.
+         */
+        public static final Boolean FALSE = new Boolean(false);
+
         public Boolean {
             Objects.requireNonNull(value, "Value can not be null");
         }
 
+        /**
+         * @return value of this property as primitive
+         */
+        public boolean booleanValue() {
+            return value;
+        }
+
         @Override
         public Boolean clone() {
-            return new Boolean(value);
+            return this;
         }
 
     }
@@ -162,13 +182,40 @@ public sealed interface ComponentProperty<Value> {
      */
     record Integer(java.lang.Integer value) implements ComponentProperty<java.lang.Integer> {
 
+        private static final int CACHE_LOW = -128;
+        private static final int CACHE_HIGH = 1024;
+        private static final Integer[] CACHE = new Integer[CACHE_HIGH - CACHE_LOW + 1];
+
+        static {
+            for (int i = 0; i < CACHE.length; i++) CACHE[i] = new Integer(i + CACHE_LOW);
+        }
+
         public Integer {
             Objects.requireNonNull(value, "Value can not be null");
         }
 
+        /**
+         * Returns integer property of the value, properties of
+         * small values are shared.
+         *
+         * @param value value
+         * @return integer property
+         */
+        public static Integer of(int value) {
+            if (value >= CACHE_LOW && value <= CACHE_HIGH) return CACHE[value - CACHE_LOW];
+            return new Integer(value);
+        }
+
+        /**
+         * @return value of this property as primitive
+         */
+        public int intValue() {
+            return value;
+        }
+
         @Override
         public Integer clone() {
-            return new Integer(value);
+            return this;
         }
 
     }
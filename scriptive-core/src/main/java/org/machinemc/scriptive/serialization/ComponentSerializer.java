@@ -3,10 +3,12 @@ package org.machinemc.scriptive.serialization;
 import org.jetbrains.annotations.Nullable;
 import org.machinemc.scriptive.components.*;
 
-import java.util.Collections;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -15,12 +17,16 @@ import java.util.function.Supplier;
  */
 public class ComponentSerializer {
 
+    private static final int MIN_BATCH_SIZE = 16;
+    private static final int BATCHES_PER_PROCESSOR = 4;
+
     private final Set<Class<? extends Component>> registered = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
     private final Map<String, Class<? extends Component>> componentNames = new ConcurrentHashMap<>();
     private final Map<String, Class<? extends Component>> uniqueKeys = new ConcurrentHashMap<>();
 
     private final Map<Class<? extends Component>, Function<ComponentProperties, ? extends Component>> componentCreators = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Component>, Supplier<? extends Component>> componentSuppliers = new ConcurrentHashMap<>();
 
     /**
      * Creates new component serializer and automatically registers the 3
@@ -55,6 +61,7 @@ public class ComponentSerializer {
             component.loadProperties(properties, this);
             return component;
         });
+        componentSuppliers.put(type, emptySupplier);
     }
 
     /**
@@ -79,6 +86,134 @@ public class ComponentSerializer {
         return component.getProperties();
     }
 
+    /**
+     * Serializes the given component directly to the properties writer
+     * without creating its component properties.
+     *
+     * @param component component
+     * @param writer writer to write the component to
+     */
+    public void serialize(Component component, PropertiesWriter writer) {
+        if (!registered.contains(component.getType()))
+            throw new UnsupportedOperationException("Serializer does not support components of type " + component.getType().getName());
+        component.writeProperties(writer);
+    }
+
+    /**
+     * Serializes all given components in parallel using the common fork join pool.
+     *
+     * @param components components to serialize
+     * @param propertiesSerializer properties serializer
+     * @return outputs in the order of the components
+     * @param <T> serialized type
+     * @see #serializeAll(Collection, PropertiesSerializer, Executor)
+     */
+    public <T> List<T> serializeAll(Collection<? extends Component> components, PropertiesSerializer<T> propertiesSerializer) {
+        return serializeAll(components, propertiesSerializer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Serializes all given components in parallel using the executor.
+     * <p>
+     * Equal components are serialized only once and share the same output, the
+     * remaining work is split into batches executed by the executor (which may as well
+     * run each batch in a virtual thread). The calling thread waits until all
+     * components are serialized.
+     * <p>
+     * Outputs of equal components are the same instance. If the output is mutable,
+     * for example {@link ComponentProperties} or a NBT compound, modifying the output
+     * of one component modifies the outputs of all components equal to it.
+     * <p>
+     * The components must not be modified until this method returns.
+     *
+     * @param components components to serialize
+     * @param propertiesSerializer properties serializer
+     * @param executor executor running the batches
+     * @return outputs in the order of the components
+     * @param <T> serialized type
+     */
+    public <T> List<T> serializeAll(Collection<? extends Component> components,
+                                    PropertiesSerializer<T> propertiesSerializer,
+                                    Executor executor) {
+        Objects.requireNonNull(components, "Components can not be null");
+        Objects.requireNonNull(propertiesSerializer, "Properties serializer can not be null");
+        Objects.requireNonNull(executor, "Executor can not be null");
+
+        Map<Component, Integer> indices = new HashMap<>();
+        List<Component> unique = new ArrayList<>();
+        int[] mapping = new int[components.size()];
+        int i = 0;
+        for (Component component : components) {
+            Objects.requireNonNull(component, "Component can not be null");
+            mapping[i++] = indices.computeIfAbsent(component, key -> {
+                unique.add(key);
+                return unique.size() - 1;
+            });
+        }
+
+        Object[] results = new Object[unique.size()];
+        int batches = Math.min(
+                (unique.size() + MIN_BATCH_SIZE - 1) / MIN_BATCH_SIZE,
+                Runtime.getRuntime().availableProcessors() * BATCHES_PER_PROCESSOR
+        );
+        if (batches <= 1) {
+            for (int j = 0; j < results.length; j++)
+                results[j] = serialize(unique.get(j), propertiesSerializer);
+        } else {
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[batches];
+            for (int batch = 0; batch < batches; batch++) {
+                int from = results.length * batch / batches, to = results.length * (batch + 1) / batches;
+                futures[batch] = CompletableFuture.runAsync(() -> {
+                    for (int j = from; j < to; j++)
+                        results[j] = serialize(unique.get(j), propertiesSerializer);
+                }, executor);
+            }
+            try {
+                CompletableFuture.allOf(futures).join();
+            } catch (CompletionException exception) {
+                if (exception.getCause() instanceof RuntimeException cause) throw cause;
+                if (exception.getCause() instanceof Error cause) throw cause;
+                throw exception;
+            }
+        }
+
+        List<T> outputs = new ArrayList<>(mapping.length);
+        for (int index : mapping) {
+            @SuppressWarnings("unchecked")
+            T output = (T) results[index];
+            outputs.add(output);
+        }
+        return outputs;
+    }
+
+    /**
+     * Serializes all components of the map in parallel using the executor,
+     * for example components rendered for each locale of the recipients of a message.
+     *
+     * @param components components to serialize mapped by their keys
+     * @param propertiesSerializer properties serializer
+     * @param executor executor running the batches
+     * @return outputs mapped by the keys of the components, in the iteration order of the given map
+     * @param <K> key type
+     * @param <T> serialized type
+     * @see #serializeAll(Collection, PropertiesSerializer, Executor)
+     */
+    public <K, T> Map<K, T> serializeAll(Map<K, ? extends Component> components,
+                                         PropertiesSerializer<T> propertiesSerializer,
+                                         Executor executor) {
+        Objects.requireNonNull(components, "Components can not be null");
+        List<K> keys = new ArrayList<>(components.size());
+        List<Component> values = new ArrayList<>(components.size());
+        components.forEach((key, component) -> {
+            keys.add(key);
+            values.add(component);
+        });
+        List<T> outputs = serializeAll(values, propertiesSerializer, executor);
+        Map<K, T> map = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) map.put(keys.get(i), outputs.get(i));
+        return map;
+    }
+
     /**
      * Deserializes the given component.
      *
@@ -101,6 +236,99 @@ public class ComponentSerializer {
         return newComponent(type, properties);
     }
 
+    /**
+     * Deserializes the given component directly from the properties reader
+     * without creating its component properties.
+     * <p>
+     * Type of the component is decided by the first property that identifies it,
+     * either {@code type} or one of the unique keys of the registered components.
+     * Only client components are loaded property by property, other
+     * components are loaded from their component properties.
+     *
+     * @param reader reader to read the component from
+     * @return component
+     */
+    public Component deserialize(PropertiesReader reader) {
+        return switch (reader.peek()) {
+            case PROPERTIES -> deserializeProperties(reader);
+            case STRING -> {
+                Class<? extends Component> type = uniqueKeys.get("text");
+                if (type == null) throw new IllegalArgumentException("Unknown serialized component type");
+                Component component = newComponent(type);
+                if (!component.loadProperty("text", reader, this))
+                    throw new UnsupportedOperationException("Serializer does not support components of type " + type.getName());
+                yield component;
+            }
+            case ARRAY -> {
+                reader.beginArray();
+                if (!reader.hasNext()) {
+                    reader.endArray();
+                    yield deserialize(PropertiesReader.of(ComponentProperty.string("")));
+                }
+                Component component = deserialize(reader);
+                while (reader.hasNext()) component.append(deserialize(reader));
+                reader.endArray();
+                yield component;
+            }
+            default -> throw new IllegalArgumentException("Unknown serialized component type");
+        };
+    }
+
+    private Component deserializeProperties(PropertiesReader reader) {
+        reader.beginProperties();
+        Component component = null;
+        ComponentProperties buffered = null;
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (component != null) {
+                if (!component.loadProperty(name, reader, this)) reader.skipValue();
+                continue;
+            }
+
+            Class<? extends Component> type;
+            if (name.equals("type")) {
+                String typeName = reader.nextString();
+                type = componentNames.get(typeName);
+                if (type == null) throw new UnsupportedOperationException("Serializer does not support components of type " + typeName);
+            } else {
+                type = uniqueKeys.get(name);
+                if (type == null) {
+                    // properties before the component type is known
+                    if (buffered == null) buffered = new ComponentProperties();
+                    buffered.set(name, reader.nextProperty());
+                    continue;
+                }
+            }
+
+            if (!ClientComponent.class.isAssignableFrom(type)) {
+                // custom components are loaded from their component properties
+                if (buffered == null) buffered = new ComponentProperties();
+                if (!name.equals("type")) buffered.set(name, reader.nextProperty());
+                while (reader.hasNext()) {
+                    String next = reader.nextName();
+                    buffered.set(next, reader.nextProperty());
+                }
+                reader.endProperties();
+                return newComponent(type, buffered);
+            }
+
+            component = newComponent(type);
+            if (buffered != null) {
+                PropertiesReader bufferedReader = PropertiesReader.of(buffered);
+                bufferedReader.beginProperties();
+                while (bufferedReader.hasNext()) {
+                    String next = bufferedReader.nextName();
+                    if (!component.loadProperty(next, bufferedReader, this)) bufferedReader.skipValue();
+                }
+                bufferedReader.endProperties();
+            }
+            if (!name.equals("type") && !component.loadProperty(name, reader, this)) reader.skipValue();
+        }
+        reader.endProperties();
+        if (component == null) throw new IllegalArgumentException("Unknown serialized component type");
+        return component;
+    }
+
     private @Nullable Class<? extends Component> getComponentTypeFromProperties(ComponentProperties properties) {
         if (properties.contains("type")) {
             String type = properties.getValue("type", String.class).orElseThrow();
@@ -120,4 +348,10 @@ public class ComponentSerializer {
         return componentCreators.get(type).apply(properties);
     }
 
+    private Component newComponent(Class<? extends Component> type) {
+        if (!componentSuppliers.containsKey(type))
+            throw new UnsupportedOperationException("Serializer does not support components of type " + type.getName());
+        return componentSuppliers.get(type).get();
+    }
+
 }
@@ -20,4 +20,16 @@ public interface Contents {
     @Contract("-> new")
     @UnmodifiableView ComponentProperties getProperties();
 
+    /**
+     * Writes properties of this object to the properties writer.
+     * <p>
+     * The output has to match the structure of {@link #getProperties()}, by default
+     * the properties are created and then written.
+     *
+     * @param writer writer
+     */
+    default void writeProperties(PropertiesWriter writer) {
+        writer.value(getProperties());
+    }
+
 }
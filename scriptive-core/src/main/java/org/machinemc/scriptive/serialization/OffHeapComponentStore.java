@@ -0,0 +1,197 @@
+package org.machinemc.scriptive.serialization;
+
+import org.machinemc.scriptive.components.Component;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Store keeping components encoded in off-heap memory.
+ * <p>
+ * Stored components are encoded with a {@link BinaryComponentCodec} and copied to memory
+ * allocated by a shared {@link Arena}, only a small {@link Handle} stays on the heap. Components
+ * are decoded each time they are requested from their handle.
+ * <p>
+ * Encoded components are packed into chunks of memory, components larger than a quarter
+ * of the chunk size get their own memory. The memory is released all at once when the
+ * store is closed, so the store suits long-lived texts, like item lore or book pages,
+ * rather than frequently replaced ones. Handles can not be used once the store is closed.
+ * <p>
+ * The store can be used from multiple threads.
+ */
+public final class OffHeapComponentStore implements AutoCloseable {
+
+    /**
+     * Default size of the memory chunks.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private static final int INITIAL_BUFFER_SIZE = 1 << 10;
+    private static final int MAX_BUFFER_SIZE = 1 << 30;
+
+    private final BinaryComponentCodec codec;
+    private final int chunkSize;
+    private final Arena arena = Arena.ofShared();
+
+    private volatile MemorySegment[] chunks = new MemorySegment[0];
+    private int currentChunk = -1;
+    private int chunkOffset;
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+    private long byteSize;
+    private long allocatedSize;
+    private int count;
+
+    /**
+     * Creates new off-heap component store.
+     *
+     * @param codec codec used to encode the components
+     */
+    public OffHeapComponentStore(BinaryComponentCodec codec) {
+        this(codec, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates new off-heap component store.
+     *
+     * @param codec codec used to encode the components
+     * @param chunkSize size of the memory chunks in bytes
+     */
+    public OffHeapComponentStore(BinaryComponentCodec codec, int chunkSize) {
+        this.codec = Objects.requireNonNull(codec, "Codec can not be null");
+        if (chunkSize < 1) throw new IllegalArgumentException("Chunk size has to be positive");
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Encodes the component and stores it in off-heap memory.
+     *
+     * @param component component to store
+     * @return handle of the stored component
+     */
+    public synchronized Handle store(Component component) {
+        Objects.requireNonNull(component, "Component can not be null");
+        int length = encode(component);
+        MemorySegment[] chunks = this.chunks;
+        int chunk, offset;
+        if (length > chunkSize / 4) {
+            chunks = addChunk(chunks, length);
+            chunk = chunks.length - 1;
+            offset = 0;
+        } else {
+            if (currentChunk == -1 || chunkOffset + length > chunkSize) {
+                chunks = addChunk(chunks, chunkSize);
+                currentChunk = chunks.length - 1;
+                chunkOffset = 0;
+            }
+            chunk = currentChunk;
+            offset = chunkOffset;
+            chunkOffset += length;
+        }
+        MemorySegment.copy(MemorySegment.ofArray(buffer.array()), 0, chunks[chunk], offset, length);
+        this.chunks = chunks;
+        byteSize += length;
+        count++;
+        return new Handle(this, chunk, offset, length);
+    }
+
+    private int encode(Component component) {
+        while (true) {
+            try {
+                codec.write(component, buffer.clear());
+                return buffer.position();
+            } catch (BufferOverflowException exception) {
+                if (buffer.capacity() >= MAX_BUFFER_SIZE)
+                    throw new IllegalArgumentException("Component is too large to be stored", exception);
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+    }
+
+    private MemorySegment[] addChunk(MemorySegment[] chunks, long size) {
+        MemorySegment[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+        grown[chunks.length] = arena.allocate(size);
+        allocatedSize += size;
+        return grown;
+    }
+
+    /**
+     * @return number of stored components
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * @return number of bytes used by the encoded components
+     */
+    public synchronized long byteSize() {
+        return byteSize;
+    }
+
+    /**
+     * @return number of bytes of allocated off-heap memory
+     */
+    public synchronized long allocatedSize() {
+        return allocatedSize;
+    }
+
+    /**
+     * Releases memory of all stored components, handles of the components
+     * can not be used anymore.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    /**
+     * Handle of a component stored in {@link OffHeapComponentStore}.
+     */
+    public static final class Handle {
+
+        private final OffHeapComponentStore store;
+        private final int chunk;
+        private final int offset;
+        private final int length;
+
+        private Handle(OffHeapComponentStore store, int chunk, int offset, int length) {
+            this.store = store;
+            this.chunk = chunk;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Decodes the stored component, each call returns
+         * new component.
+         *
+         * @return stored component
+         * @throws IllegalStateException if the store has been closed
+         */
+        public Component get() {
+            MemorySegment segment = store.chunks[chunk].asSlice(offset, length);
+            return store.codec.read(segment.asReadOnly().asByteBuffer());
+        }
+
+        /**
+         * @return number of bytes of the encoded component
+         */
+        public int byteSize() {
+            return length;
+        }
+
+        /**
+         * @return store of this handle
+         */
+        public OffHeapComponentStore getStore() {
+            return store;
+        }
+
+    }
+
+}
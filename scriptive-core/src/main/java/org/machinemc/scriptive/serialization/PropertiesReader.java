@@ -0,0 +1,290 @@
+package org.machinemc.scriptive.serialization;
+
+import java.util.*;
+
+/**
+ * Streaming counterpart of {@link PropertiesSerializer} used for deserialization.
+ * <p>
+ * Reader is pulled token by token, so components can be loaded directly
+ * without creating {@link ComponentProperties} first.
+ *
+ * @see ComponentSerializer#deserialize(PropertiesReader)
+ */
+public interface PropertiesReader {
+
+    /**
+     * Creates properties reader that reads existing component property.
+     *
+     * @param property property to read
+     * @return properties reader
+     */
+    static PropertiesReader of(ComponentProperty<?> property) {
+        return new PropertyTreeReader(property);
+    }
+
+    /**
+     * Creates properties reader that reads existing component properties.
+     *
+     * @param properties properties to read
+     * @return properties reader
+     */
+    static PropertiesReader of(ComponentProperties properties) {
+        return of(ComponentProperty.properties(properties));
+    }
+
+    /**
+     * Returns type of the next token without consuming it.
+     *
+     * @return next token
+     */
+    Token peek();
+
+    /**
+     * Consumes beginning of a properties object.
+     */
+    void beginProperties();
+
+    /**
+     * Consumes end of the current properties object.
+     */
+    void endProperties();
+
+    /**
+     * Consumes beginning of an array.
+     */
+    void beginArray();
+
+    /**
+     * Consumes end of the current array.
+     */
+    void endArray();
+
+    /**
+     * @return whether the current properties object or array has another element
+     */
+    boolean hasNext();
+
+    /**
+     * Consumes name of the next property of the current properties object.
+     *
+     * @return name of the property
+     */
+    String nextName();
+
+    /**
+     * Consumes string value.
+     *
+     * @return value
+     */
+    String nextString();
+
+    /**
+     * Consumes boolean value.
+     *
+     * @return value
+     */
+    boolean nextBoolean();
+
+    /**
+     * Consumes integer value.
+     *
+     * @return value
+     */
+    int nextInt();
+
+    /**
+     * Skips the next value, including all nested values.
+     */
+    void skipValue();
+
+    /**
+     * Consumes the next value as a component property.
+     *
+     * @return property
+     */
+    default ComponentProperty<?> nextProperty() {
+        return switch (peek()) {
+            case PROPERTIES -> {
+                ComponentProperties properties = new ComponentProperties();
+                beginProperties();
+                while (hasNext()) {
+                    String name = nextName();
+                    properties.set(name, nextProperty());
+                }
+                endProperties();
+                yield ComponentProperty.properties(properties);
+            }
+            case ARRAY -> {
+                List<ComponentProperty<?>> list = new ArrayList<>();
+                beginArray();
+                while (hasNext()) list.add(nextProperty());
+                endArray();
+                yield ComponentProperty.array(list.toArray(new ComponentProperty<?>[0]));
+            }
+            case STRING -> ComponentProperty.string(nextString());
+            case BOOLEAN -> ComponentProperty.bool(nextBoolean());
+            case INTEGER -> ComponentProperty.integer(nextInt());
+            case NAME, END -> throw new IllegalStateException("Expected a value but was " + peek());
+        };
+    }
+
+    /**
+     * Types of tokens of properties reader.
+     */
+    enum Token {
+
+        PROPERTIES,
+        ARRAY,
+        NAME,
+        STRING,
+        BOOLEAN,
+        INTEGER,
+
+        /**
+         * End of the current properties object, array or the whole input.
+         */
+        END
+
+    }
+
+}
+
+final class PropertyTreeReader implements PropertiesReader {
+
+    private final Deque<Scope> scopes = new ArrayDeque<>();
+    private ComponentProperty<?> next;
+
+    PropertyTreeReader(ComponentProperty<?> property) {
+        next = Objects.requireNonNull(property, "Property can not be null");
+    }
+
+    @Override
+    public Token peek() {
+        if (next != null) return switch (next) {
+            case ComponentProperty.Properties properties -> Token.PROPERTIES;
+            case ComponentProperty.Array array -> Token.ARRAY;
+            case ComponentProperty.String string -> Token.STRING;
+            case ComponentProperty.Boolean bool -> Token.BOOLEAN;
+            case ComponentProperty.Integer integer -> Token.INTEGER;
+        };
+        Scope scope = scopes.peek();
+        if (scope == null || !scope.hasNext()) return Token.END;
+        if (scope instanceof PropertiesScope) return Token.NAME;
+        next = ((ArrayScope) scope).next();
+        return peek();
+    }
+
+    @Override
+    public void beginProperties() {
+        ComponentProperties properties = take(ComponentProperty.Properties.class).value();
+        scopes.push(new PropertiesScope(properties, properties.getKeys().iterator()));
+    }
+
+    @Override
+    public void endProperties() {
+        end(PropertiesScope.class);
+    }
+
+    @Override
+    public void beginArray() {
+        scopes.push(new ArrayScope(take(ComponentProperty.Array.class).value()));
+    }
+
+    @Override
+    public void endArray() {
+        end(ArrayScope.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+        Scope scope = scopes.peek();
+        return scope != null && scope.hasNext();
+    }
+
+    @Override
+    public String nextName() {
+        if (next != null || !(scopes.peek() instanceof PropertiesScope scope) || !scope.hasNext())
+            throw new IllegalStateException("Expected " + Token.NAME + " but was " + peek());
+        String name = scope.keys.next();
+        next = scope.properties.get(name).orElseThrow();
+        return name;
+    }
+
+    @Override
+    public String nextString() {
+        return take(ComponentProperty.String.class).value();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return take(ComponentProperty.Boolean.class).booleanValue();
+    }
+
+    @Override
+    public int nextInt() {
+        return take(ComponentProperty.Integer.class).intValue();
+    }
+
+    @Override
+    public void skipValue() {
+        nextProperty();
+    }
+
+    @Override
+    public ComponentProperty<?> nextProperty() {
+        return take(ComponentProperty.class);
+    }
+
+    private <T extends ComponentProperty<?>> T take(Class<T> type) {
+        Token token = peek();
+        if (!type.isInstance(next))
+            throw new IllegalStateException("Expected " + type.getSimpleName() + " but was " + token);
+        T property = type.cast(next);
+        next = null;
+        return property;
+    }
+
+    private void end(Class<? extends Scope> type) {
+        Scope scope = scopes.peek();
+        if (!type.isInstance(scope) || next != null || scope.hasNext())
+            throw new IllegalStateException("Expected " + Token.END + " but was " + peek());
+        scopes.pop();
+    }
+
+    private sealed interface Scope permits PropertiesScope, ArrayScope {
+
+        boolean hasNext();
+
+    }
+
+    private record PropertiesScope(ComponentProperties properties, Iterator<String> keys) implements Scope {
+
+        @Override
+        public boolean hasNext() {
+            return keys.hasNext();
+        }
+
+    }
+
+    private static final class ArrayScope implements Scope {
+
+        private final ComponentProperty<?>[] array;
+        private int index;
+
+        private ArrayScope(ComponentProperty<?>[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < array.length;
+        }
+
+        private ComponentProperty<?> next() {
+            return array[index++];
+        }
+
+    }
+
+}
@@ -0,0 +1,146 @@
+package org.machinemc.scriptive.serialization;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Streaming counterpart of {@link PropertiesSerializer}.
+ * <p>
+ * Instead of building {@link ComponentProperties} first, contents write their
+ * properties directly as a sequence of tokens to the writer.
+ *
+ * @see Contents#writeProperties(PropertiesWriter)
+ */
+public interface PropertiesWriter {
+
+    /**
+     * Begins new properties object.
+     *
+     * @return this
+     */
+    PropertiesWriter beginProperties();
+
+    /**
+     * Ends the current properties object.
+     *
+     * @return this
+     */
+    PropertiesWriter endProperties();
+
+    /**
+     * Begins new array.
+     *
+     * @param size number of elements that are going to be written to the array
+     * @return this
+     */
+    PropertiesWriter beginArray(int size);
+
+    /**
+     * Ends the current array.
+     *
+     * @return this
+     */
+    PropertiesWriter endArray();
+
+    /**
+     * Writes name of the next property of the current properties object.
+     *
+     * @param name name of the property
+     * @return this
+     */
+    PropertiesWriter name(String name);
+
+    /**
+     * Writes string value.
+     *
+     * @param value value
+     * @return this
+     */
+    PropertiesWriter value(String value);
+
+    /**
+     * Writes boolean value.
+     *
+     * @param value value
+     * @return this
+     */
+    PropertiesWriter value(boolean value);
+
+    /**
+     * Writes integer value.
+     *
+     * @param value value
+     * @return this
+     */
+    PropertiesWriter value(int value);
+
+    /**
+     * Writes value of a component property.
+     *
+     * @param property property
+     * @return this
+     */
+    default PropertiesWriter value(ComponentProperty<?> property) {
+        return switch (property) {
+            case ComponentProperty.String string -> value(string.value());
+            case ComponentProperty.Boolean bool -> value(bool.booleanValue());
+            case ComponentProperty.Integer integer -> value(integer.intValue());
+            case ComponentProperty.Properties properties -> value(properties.value());
+            case ComponentProperty.Array array -> {
+                beginArray(array.value().length);
+                for (ComponentProperty<?> element : array.value()) value(element);
+                yield endArray();
+            }
+        };
+    }
+
+    /**
+     * Writes component properties.
+     *
+     * @param properties properties
+     * @return this
+     */
+    default PropertiesWriter value(ComponentProperties properties) {
+        beginProperties();
+        properties.forEach((key, property) -> name(key).value(property));
+        return endProperties();
+    }
+
+    /**
+     * Writes string property, does nothing if the value is null.
+     *
+     * @param name name of the property
+     * @param value value
+     * @return this
+     */
+    default PropertiesWriter property(String name, @Nullable String value) {
+        if (value == null) return this;
+        return name(name).value(value);
+    }
+
+    /**
+     * Writes boolean property, does nothing if the value is null.
+     *
+     * @param name name of the property
+     * @param value value
+     * @return this
+     */
+    default PropertiesWriter property(String name, @Nullable Boolean value) {
+        if (value == null) return this;
+        return name(name).value(value.booleanValue());
+    }
+
+    /**
+     * Writes contents as a property, does nothing if the contents are null.
+     *
+     * @param name name of the property
+     * @param contents contents
+     * @return this
+     */
+    default PropertiesWriter property(String name, @Nullable Contents contents) {
+        if (contents == null) return this;
+        name(name);
+        contents.writeProperties(this);
+        return this;
+    }
+
+}
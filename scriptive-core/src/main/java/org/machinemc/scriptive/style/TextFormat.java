@@ -3,7 +3,10 @@ package org.machinemc.scriptive.style;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 import org.machinemc.scriptive.serialization.ComponentProperties;
+import org.machinemc.scriptive.serialization.ComponentProperty;
 import org.machinemc.scriptive.serialization.Contents;
+import org.machinemc.scriptive.serialization.PropertiesReader;
+import org.machinemc.scriptive.serialization.PropertiesWriter;
 
 import java.util.*;
 
@@ -14,9 +17,22 @@ import java.util.*;
  */
 public final class TextFormat implements Contents {
 
+    private static final ChatStyle[] STYLES = ChatStyle.values();
+    private static final ChatStyle[] NO_STYLES = new ChatStyle[0];
+
     private @Nullable Colour color;
     private @Nullable String font;
-    private final Map<ChatStyle, @Nullable Boolean> styleMap = new HashMap<>();
+
+    /**
+     * Packed styles, each style has a bit marking whether it is set,
+     * followed by a bit with its value.
+     *
+     * @see TextStyle#setBit(ChatStyle)
+     */
+    private int styles;
+
+    private long modifications;
+    private @Nullable Runnable listener;
 
     /**
      * Creates new text format from existing component properties.
@@ -24,13 +40,12 @@ public final class TextFormat implements Contents {
      * @param properties properties
      */
     public TextFormat(ComponentProperties properties) {
-        color = properties.getValue("color", String.class).map(Colour::fromName).orElse(null);
-        font = properties.getValue("font", String.class).orElse(null);
-        Arrays.stream(ChatStyle.values()).forEach(style -> {
-            Boolean value = properties.getValue(style.getName(), Boolean.class).orElse(null);
-            if (value == null) return;
-            styleMap.put(style, value);
-        });
+        color = properties.find("color") instanceof ComponentProperty.String name ? Colour.fromName(name.value()) : null;
+        font = properties.find("font") instanceof ComponentProperty.String name ? name.value() : null;
+        for (ChatStyle style : STYLES) {
+            if (properties.find(style.getName()) instanceof ComponentProperty.Boolean bool)
+                styles = TextStyle.with(styles, style, bool.booleanValue());
+        }
     }
 
     /**
@@ -49,7 +64,7 @@ public final class TextFormat implements Contents {
      * @param styles styles
      */
     public TextFormat(@Nullable Colour color, ChatStyle... styles) {
-        this(color, null, stylesToMap(styles));
+        this(color, null, styles);
     }
 
     /**
@@ -60,7 +75,12 @@ public final class TextFormat implements Contents {
      * @param styles styles
      */
     public TextFormat(@Nullable Colour color, @Nullable String font, ChatStyle... styles) {
-        this(color, font, stylesToMap(styles));
+        this.color = color;
+        this.font = font;
+        for (ChatStyle style : styles) {
+            Objects.requireNonNull(style, "Style can not be null");
+            this.styles = TextStyle.with(this.styles, style, true);
+        }
     }
 
     /**
@@ -75,10 +95,44 @@ public final class TextFormat implements Contents {
         this.font = font;
         styleMap.forEach((style, flag) -> {
             if (style == null || flag == null) return;
-            this.styleMap.put(style, flag);
+            styles = TextStyle.with(styles, style, flag);
         });
     }
 
+    /**
+     * Creates new chat format with values of a text style.
+     *
+     * @param style text style
+     */
+    public TextFormat(TextStyle style) {
+        this(style, null);
+    }
+
+    /**
+     * Creates new chat format with values of a text style, the listener
+     * is notified whenever the chat format is modified.
+     *
+     * @param style text style
+     * @param listener modification listener
+     */
+    public TextFormat(TextStyle style, @Nullable Runnable listener) {
+        Objects.requireNonNull(style, "Text style can not be null");
+        color = style.getColor().orElse(null);
+        font = style.getFont().orElse(null);
+        styles = style.styles();
+        this.listener = listener;
+    }
+
+    /**
+     * Returns interned text style with the current values of
+     * this text format.
+     *
+     * @return text style
+     */
+    public TextStyle toStyle() {
+        return TextStyle.of(color, font, styles);
+    }
+
     /**
      * @return color
      */
@@ -91,6 +145,7 @@ public final class TextFormat implements Contents {
      */
     public void setColor(@Nullable Colour color) {
         this.color = color;
+        modified();
     }
 
     /**
@@ -105,6 +160,7 @@ public final class TextFormat implements Contents {
      */
     public void setFont(@Nullable String font) {
         this.font = font;
+        modified();
     }
 
     /**
@@ -113,7 +169,9 @@ public final class TextFormat implements Contents {
      */
     public Optional<Boolean> getStyle(ChatStyle style) {
         Objects.requireNonNull(style, "Style can not be null");
-        return Optional.ofNullable(styleMap.get(style));
+        int bit = TextStyle.setBit(style);
+        if ((styles & bit) == 0) return Optional.empty();
+        return Optional.of((styles & bit << 1) != 0);
     }
 
     /**
@@ -122,7 +180,8 @@ public final class TextFormat implements Contents {
      */
     public void setStyle(ChatStyle style, @Nullable Boolean flag) {
         Objects.requireNonNull(style, "Style can not be null");
-        styleMap.put(style, flag);
+        styles = TextStyle.with(styles, style, flag);
+        modified();
     }
 
     /**
@@ -131,22 +190,39 @@ public final class TextFormat implements Contents {
      * @return map view of this text format
      */
     public @UnmodifiableView Map<ChatStyle, @Nullable Boolean> getStyles() {
-        return Collections.unmodifiableMap(styleMap);
+        return new StyleMapView();
     }
 
     /**
      * Returns all styles of this text format with given value.
+     * <p>
+     * Styles that are not set have value {@code null}.
      *
      * @param flag value
      * @return chat styles with given value
      */
     public ChatStyle[] getStyles(@Nullable Boolean flag) {
-        List<ChatStyle> list = new ArrayList<>();
-        getStyles().forEach((style, aBoolean) -> {
-            if (Objects.equals(flag, aBoolean))
-                list.add(style);
-        });
-        return list.toArray(new ChatStyle[0]);
+        int matching = matching(flag);
+        if (matching == 0) return NO_STYLES;
+        ChatStyle[] styles = new ChatStyle[Integer.bitCount(matching)];
+        int i = 0;
+        for (ChatStyle style : STYLES) {
+            if ((matching & TextStyle.setBit(style)) != 0) styles[i++] = style;
+        }
+        return styles;
+    }
+
+    /**
+     * Returns set bits of styles with given value.
+     *
+     * @param flag value
+     * @return set bits of matching styles
+     */
+    private int matching(@Nullable Boolean flag) {
+        int set = styles & TextStyle.SET_MASK;
+        if (flag == null) return ~set & TextStyle.SET_MASK;
+        int values = styles >>> 1 & set;
+        return flag ? values : set & ~values;
     }
 
     /**
@@ -158,12 +234,10 @@ public final class TextFormat implements Contents {
      */
     public void inheritFrom(TextFormat parent) {
         Objects.requireNonNull(parent, "Parent text format can not be null");
-        getColor().ifPresentOrElse(k -> {}, () -> setColor(parent.color));
-        getFont().ifPresentOrElse(k -> {}, () -> setFont(parent.font));
-        parent.styleMap.forEach((style, flag) -> {
-            if (flag == null || getStyle(style).isPresent()) return;
-            setStyle(style, flag);
-        });
+        if (color == null) color = parent.color;
+        if (font == null) font = parent.font;
+        styles = TextStyle.merge(parent.styles, styles);
+        modified();
     }
 
     /**
@@ -173,12 +247,10 @@ public final class TextFormat implements Contents {
      */
     public void merge(TextFormat other) {
         Objects.requireNonNull(other, "Other text format can not be null");
-        other.getColor().ifPresent(this::setColor);
-        other.getFont().ifPresent(this::setFont);
-        other.styleMap.forEach((style, flag) -> {
-            if (flag != null)
-                styleMap.put(style, flag);
-        });
+        if (other.color != null) color = other.color;
+        if (other.font != null) font = other.font;
+        styles = TextStyle.merge(styles, other.styles);
+        modified();
     }
 
     /**
@@ -188,36 +260,148 @@ public final class TextFormat implements Contents {
      */
     public void copy(TextFormat other) {
         Objects.requireNonNull(other, "Other text format can not be null");
-        setColor(other.getColor().orElse(null));
-        setFont(other.getFont().orElse(null));
-        styleMap.clear();
-        other.styleMap.forEach(this::setStyle);
+        color = other.color;
+        font = other.font;
+        styles = other.styles;
+        modified();
     }
 
-    private static Map<ChatStyle, @Nullable Boolean> stylesToMap(ChatStyle... styles) {
-        Map<ChatStyle, @Nullable Boolean> styleMap = new HashMap<>();
-        for (ChatStyle style : styles) {
-            Objects.requireNonNull(style, "Style can not be null");
-            styleMap.put(style, true);
-        }
-        return styleMap;
+    /**
+     * @return color, or null if not set
+     */
+    @Nullable Colour color() {
+        return color;
+    }
+
+    /**
+     * @return font, or null if not set
+     */
+    @Nullable String font() {
+        return font;
+    }
+
+    /**
+     * @return packed styles
+     * @see TextStyle#setBit(ChatStyle)
+     */
+    int styles() {
+        return styles;
+    }
+
+    /**
+     * Returns number of modifications of this text format, the value
+     * increases whenever the text format is modified.
+     *
+     * @return number of modifications
+     */
+    public long getModificationCount() {
+        return modifications;
     }
 
     @Override
     public ComponentProperties getProperties() {
         ComponentProperties properties = new ComponentProperties();
-        properties.set("color", color != null ? color.getName() : null);
-        properties.set("font", font);
-        styleMap.forEach((style, flag) -> properties.set(style.getName(), flag));
+        writeFields(properties);
         return properties.unmodifiableView();
     }
 
+    @Override
+    public void writeProperties(PropertiesWriter writer) {
+        writer.beginProperties();
+        writeFields(writer);
+        writer.endProperties();
+    }
+
+    /**
+     * Writes properties of this text format to the writer without
+     * enclosing them in a properties object, so they can be
+     * written as part of component properties.
+     *
+     * @param writer writer
+     */
+    public void writeFields(PropertiesWriter writer) {
+        writeFields(color, font, styles, writer);
+    }
+
+    /**
+     * Sets properties of this text format to the properties map, so
+     * they can be part of component properties without copying them
+     * from {@link #getProperties()}.
+     *
+     * @param properties properties map
+     */
+    public void writeFields(ComponentProperties properties) {
+        writeFields(color, font, styles, properties);
+    }
+
+    static void writeFields(@Nullable Colour color, @Nullable String font, int styles, PropertiesWriter writer) {
+        if (color != null) writer.name("color").value(color.getName());
+        writer.property("font", font);
+        if (styles == 0) return;
+        for (ChatStyle style : STYLES) {
+            int bit = TextStyle.setBit(style);
+            if ((styles & bit) != 0) writer.name(style.getName()).value((styles & bit << 1) != 0);
+        }
+    }
+
+    static void writeFields(@Nullable Colour color, @Nullable String font, int styles, ComponentProperties properties) {
+        if (color != null) properties.set("color", color.getName());
+        if (font != null) properties.set("font", font);
+        if (styles == 0) return;
+        for (ChatStyle style : STYLES) {
+            int bit = TextStyle.setBit(style);
+            if ((styles & bit) != 0) properties.set(style.getName(), (styles & bit << 1) != 0);
+        }
+    }
+
+    /**
+     * Returns the style with given property name.
+     *
+     * @param name name of the property
+     * @return style, or null if there is no style with such a name
+     */
+    static @Nullable ChatStyle styleByName(String name) {
+        for (ChatStyle style : STYLES) {
+            if (style.getName().equals(name)) return style;
+        }
+        return null;
+    }
+
+    /**
+     * Loads single property of this text format from properties reader.
+     * <p>
+     * The value of the property is consumed only if the property is
+     * part of text format.
+     *
+     * @param name name of the property
+     * @param reader reader positioned at the value of the property
+     * @return whether the property has been loaded
+     */
+    public boolean loadProperty(String name, PropertiesReader reader) {
+        switch (name) {
+            case "color" -> color = Colour.fromName(reader.nextString());
+            case "font" -> font = reader.nextString();
+            default -> {
+                ChatStyle style = styleByName(name);
+                if (style == null) return false;
+                styles = TextStyle.with(styles, style, reader.nextBoolean());
+            }
+        }
+        modified();
+        return true;
+    }
+
+    private void modified() {
+        modifications++;
+        if (listener != null) listener.run();
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", "TextFormat[", "]")
                 .add("color=" + color)
                 .add("font='" + font + "'")
-                .add("styleMap=" + styleMap)
+                .add("styleMap=" + getStyles())
                 .toString();
     }
 
@@ -225,15 +409,72 @@ public final class TextFormat implements Contents {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof TextFormat that)) return false;
-        return Objects.equals(color, that.color) && Objects.equals(font, that.font) && styleMap.equals(that.styleMap);
+        return styles == that.styles && Objects.equals(color, that.color) && Objects.equals(font, that.font);
     }
 
     @Override
     public int hashCode() {
         int result = Objects.hashCode(color);
         result = 31 * result + Objects.hashCode(font);
-        result = 31 * result + styleMap.hashCode();
+        result = 31 * result + styles;
         return result;
     }
 
+    /**
+     * Map view of the set styles of this text format.
+     */
+    private final class StyleMapView extends AbstractMap<ChatStyle, @Nullable Boolean> {
+
+        @Override
+        public int size() {
+            return Integer.bitCount(styles & TextStyle.SET_MASK);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof ChatStyle style && (styles & TextStyle.setBit(style)) != 0;
+        }
+
+        @Override
+        public @Nullable Boolean get(Object key) {
+            return key instanceof ChatStyle style ? TextStyle.get(styles, style) : null;
+        }
+
+        @Override
+        public Set<Entry<ChatStyle, @Nullable Boolean>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return StyleMapView.this.size();
+                }
+
+                @Override
+                public Iterator<Entry<ChatStyle, @Nullable Boolean>> iterator() {
+                    return new Iterator<>() {
+                        private int next = nextSet(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < STYLES.length;
+                        }
+
+                        @Override
+                        public Entry<ChatStyle, @Nullable Boolean> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            ChatStyle style = STYLES[next];
+                            next = nextSet(next + 1);
+                            return Map.entry(style, TextStyle.get(styles, style));
+                        }
+                    };
+                }
+            };
+        }
+
+        private int nextSet(int from) {
+            while (from < STYLES.length && (styles & TextStyle.setBit(STYLES[from])) == 0) from++;
+            return from;
+        }
+
+    }
+
 }
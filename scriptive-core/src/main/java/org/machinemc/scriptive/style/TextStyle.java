@@ -0,0 +1,424 @@
+package org.machinemc.scriptive.style;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+import org.machinemc.scriptive.serialization.ComponentProperties;
+import org.machinemc.scriptive.serialization.PropertiesReader;
+import org.machinemc.scriptive.serialization.PropertiesWriter;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable and interned counterpart of {@link TextFormat}.
+ * <p>
+ * Styles are packed in a single int, two bits for each {@link ChatStyle}
+ * (whether the style is set and its value), so there are three states for each style:
+ * set to true, set to false, and not set.
+ * <p>
+ * Text styles created by the factory methods are canonical instances shared
+ * by all their users, so comparing them is mostly a reference comparison.
+ * Text styles are interned weakly, styles no longer used anywhere (e.g. one-off
+ * hex colors of gradients) are released and do not take up the table.
+ */
+public final class TextStyle {
+
+    private static final Map<Key, StyleReference> INTERNED = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<TextStyle> RELEASED = new ReferenceQueue<>();
+
+    /**
+     * Text style without any color, font, or styles.
+     */
+    public static final TextStyle EMPTY = intern(null, null, 0);
+
+    /**
+     * Mask of the bits marking whether a style is set.
+     */
+    static final int SET_MASK;
+
+    static {
+        int mask = 0;
+        for (ChatStyle style : ChatStyle.values()) mask |= setBit(style);
+        SET_MASK = mask;
+    }
+
+    private final @Nullable Colour color;
+    private final @Nullable String font;
+    private final int styles;
+    private final int hash;
+
+    private TextStyle(@Nullable Colour color, @Nullable String font, int styles) {
+        this.color = color;
+        this.font = font;
+        this.styles = styles;
+        int hash = Objects.hashCode(color);
+        hash = 31 * hash + Objects.hashCode(font);
+        this.hash = 31 * hash + styles;
+    }
+
+    /**
+     * Returns text style with given color and styles set to true.
+     *
+     * @param color color
+     * @param styles styles
+     * @return text style
+     */
+    public static TextStyle of(@Nullable Colour color, ChatStyle... styles) {
+        return of(color, null, styles);
+    }
+
+    /**
+     * Returns text style with given color, font, and styles set to true.
+     *
+     * @param color color
+     * @param font font
+     * @param styles styles
+     * @return text style
+     */
+    public static TextStyle of(@Nullable Colour color, @Nullable String font, ChatStyle... styles) {
+        int packed = 0;
+        for (ChatStyle style : styles) {
+            Objects.requireNonNull(style, "Style can not be null");
+            packed = with(packed, style, true);
+        }
+        return of(color, font, packed);
+    }
+
+    /**
+     * Returns text style with given color, font, and styles.
+     *
+     * @param color color
+     * @param font font
+     * @param styleMap styles
+     * @return text style
+     */
+    public static TextStyle of(@Nullable Colour color, @Nullable String font, Map<ChatStyle, @Nullable Boolean> styleMap) {
+        int packed = 0;
+        for (Map.Entry<ChatStyle, @Nullable Boolean> entry : styleMap.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) continue;
+            packed = with(packed, entry.getKey(), entry.getValue());
+        }
+        return of(color, font, packed);
+    }
+
+    /**
+     * Returns text style with given color, font, and packed styles.
+     *
+     * @param color color
+     * @param font font
+     * @param styles packed styles
+     * @return text style
+     */
+    static TextStyle of(@Nullable Colour color, @Nullable String font, int styles) {
+        if (color == null && font == null && styles == 0 && EMPTY != null) return EMPTY;
+        return intern(color, font, styles);
+    }
+
+    private static TextStyle intern(@Nullable Colour color, @Nullable String font, int styles) {
+        Key key = new Key(color, font, styles);
+        while (true) {
+            StyleReference reference = INTERNED.get(key);
+            TextStyle interned = reference != null ? reference.get() : null;
+            if (interned != null) return interned;
+            expungeReleased();
+            TextStyle style = new TextStyle(color, font, styles);
+            StyleReference created = new StyleReference(style, key);
+            boolean stored = reference == null
+                    ? INTERNED.putIfAbsent(key, created) == null
+                    : INTERNED.replace(key, reference, created);
+            if (stored) return style;
+        }
+    }
+
+    private static void expungeReleased() {
+        Reference<? extends TextStyle> reference;
+        while ((reference = RELEASED.poll()) != null) {
+            StyleReference released = (StyleReference) reference;
+            INTERNED.remove(released.key, released);
+        }
+    }
+
+    /**
+     * @return number of text styles currently interned
+     */
+    static int internedCount() {
+        expungeReleased();
+        return INTERNED.size();
+    }
+
+    /**
+     * @return color
+     */
+    public Optional<Colour> getColor() {
+        return Optional.ofNullable(color);
+    }
+
+    /**
+     * @return font
+     */
+    public Optional<String> getFont() {
+        return Optional.ofNullable(font);
+    }
+
+    /**
+     * @param style style
+     * @return value for given style
+     */
+    public Optional<Boolean> getStyle(ChatStyle style) {
+        Objects.requireNonNull(style, "Style can not be null");
+        return Optional.ofNullable(get(styles, style));
+    }
+
+    /**
+     * Returns all styles of this text style with given value.
+     *
+     * @param flag value
+     * @return chat styles with given value
+     */
+    public ChatStyle[] getStyles(@Nullable Boolean flag) {
+        List<ChatStyle> list = new ArrayList<>();
+        for (ChatStyle style : ChatStyle.values()) {
+            if (Objects.equals(flag, get(styles, style))) list.add(style);
+        }
+        return list.toArray(new ChatStyle[0]);
+    }
+
+    /**
+     * @return whether this text style has no color, font, or styles
+     */
+    public boolean isEmpty() {
+        return color == null && font == null && styles == 0;
+    }
+
+    /**
+     * @param color new color
+     * @return text style with given color
+     */
+    @Contract(pure = true)
+    public TextStyle withColor(@Nullable Colour color) {
+        if (Objects.equals(this.color, color)) return this;
+        return of(color, font, styles);
+    }
+
+    /**
+     * @param font new font
+     * @return text style with given font
+     */
+    @Contract(pure = true)
+    public TextStyle withFont(@Nullable String font) {
+        if (Objects.equals(this.font, font)) return this;
+        return of(color, font, styles);
+    }
+
+    /**
+     * @param style style
+     * @param flag new value for given style
+     * @return text style with given style value
+     */
+    @Contract(pure = true)
+    public TextStyle withStyle(ChatStyle style, @Nullable Boolean flag) {
+        Objects.requireNonNull(style, "Style can not be null");
+        int styles = with(this.styles, style, flag);
+        if (this.styles == styles) return this;
+        return of(color, font, styles);
+    }
+
+    /**
+     * Returns text style with values of this text style overridden by
+     * values set in the other text style.
+     *
+     * @param other other text style
+     * @return merged text style
+     */
+    @Contract(pure = true)
+    public TextStyle merge(TextStyle other) {
+        Objects.requireNonNull(other, "Other text style can not be null");
+        if (other.isEmpty()) return this;
+        return of(other.color != null ? other.color : color,
+                other.font != null ? other.font : font,
+                merge(styles, other.styles));
+    }
+
+    /**
+     * Returns text style with values not set in this text style
+     * inherited from the parent text style.
+     *
+     * @param parent parent text style
+     * @return text style with inherited values
+     */
+    @Contract(pure = true)
+    public TextStyle inheritFrom(TextStyle parent) {
+        Objects.requireNonNull(parent, "Parent text style can not be null");
+        if (parent.isEmpty()) return this;
+        return of(color != null ? color : parent.color,
+                font != null ? font : parent.font,
+                merge(parent.styles, styles));
+    }
+
+    /**
+     * Returns text style with a single property loaded from properties reader.
+     * <p>
+     * The value of the property is consumed only if the property is
+     * part of text style.
+     *
+     * @param name name of the property
+     * @param reader reader positioned at the value of the property
+     * @return text style with the loaded property, or null if the property
+     * is not part of text style
+     * @see TextFormat#loadProperty(String, PropertiesReader)
+     */
+    public @Nullable TextStyle loadProperty(String name, PropertiesReader reader) {
+        return switch (name) {
+            case "color" -> withColor(Colour.fromName(reader.nextString()));
+            case "font" -> withFont(reader.nextString());
+            default -> {
+                ChatStyle style = TextFormat.styleByName(name);
+                yield style != null ? withStyle(style, reader.nextBoolean()) : null;
+            }
+        };
+    }
+
+    /**
+     * Writes properties of this text style to the writer without
+     * enclosing them in a properties object, so they can be
+     * written as part of component properties.
+     *
+     * @param writer writer
+     * @see TextFormat#writeFields(PropertiesWriter)
+     */
+    public void writeFields(PropertiesWriter writer) {
+        TextFormat.writeFields(color, font, styles, writer);
+    }
+
+    /**
+     * Sets properties of this text style to the properties map, so
+     * they can be part of component properties.
+     *
+     * @param properties properties map
+     * @see TextFormat#writeFields(ComponentProperties)
+     */
+    public void writeFields(ComponentProperties properties) {
+        TextFormat.writeFields(color, font, styles, properties);
+    }
+
+    /**
+     * @return new mutable text format with values of this text style
+     */
+    public TextFormat toTextFormat() {
+        return new TextFormat(this);
+    }
+
+    /**
+     * @return color, or null if not set
+     */
+    @Nullable Colour color() {
+        return color;
+    }
+
+    /**
+     * @return font, or null if not set
+     */
+    @Nullable String font() {
+        return font;
+    }
+
+    /**
+     * @return packed styles
+     */
+    int styles() {
+        return styles;
+    }
+
+    /**
+     * Returns the bit marking whether the style is set, the bit
+     * following it holds the value of the style.
+     *
+     * @param style style
+     * @return bit of the style
+     */
+    static int setBit(ChatStyle style) {
+        return 1 << (style.ordinal() << 1);
+    }
+
+    /**
+     * @param packed packed styles
+     * @param style style
+     * @return value of the style
+     */
+    static @Nullable Boolean get(int packed, ChatStyle style) {
+        int bit = setBit(style);
+        if ((packed & bit) == 0) return null;
+        return (packed & bit << 1) != 0;
+    }
+
+    /**
+     * @param packed packed styles
+     * @param style style
+     * @param flag new value of the style
+     * @return packed styles with changed style
+     */
+    static int with(int packed, ChatStyle style, @Nullable Boolean flag) {
+        int bit = setBit(style);
+        packed &= ~(bit | bit << 1);
+        if (flag == null) return packed;
+        return packed | (flag ? bit | bit << 1 : bit);
+    }
+
+    /**
+     * Merges packed styles, styles set in {@code other} override
+     * the styles of {@code base}.
+     *
+     * @param base base packed styles
+     * @param other other packed styles
+     * @return merged packed styles
+     */
+    static int merge(int base, int other) {
+        int set = other & SET_MASK;
+        return (base & ~(set | set << 1)) | other;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TextStyle that)) return false;
+        return hash == that.hash
+                && styles == that.styles
+                && Objects.equals(color, that.color)
+                && Objects.equals(font, that.font);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "TextStyle[", "]")
+                .add("color=" + color)
+                .add("font='" + font + "'");
+        for (ChatStyle style : ChatStyle.values()) {
+            Boolean flag = get(styles, style);
+            if (flag != null) joiner.add(style.getName() + "=" + flag);
+        }
+        return joiner.toString();
+    }
+
+    private record Key(@Nullable Colour color, @Nullable String font, int styles) {
+    }
+
+    private static final class StyleReference extends WeakReference<TextStyle> {
+
+        private final Key key;
+
+        private StyleReference(TextStyle style, Key key) {
+            super(style, RELEASED);
+            this.key = key;
+        }
+
+    }
+
+}
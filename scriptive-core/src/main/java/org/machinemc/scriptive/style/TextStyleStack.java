@@ -0,0 +1,147 @@
+package org.machinemc.scriptive.style;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Stack of effective styles of nested components.
+ * <p>
+ * Each pushed format inherits values it does not set from the format below it,
+ * the same way children of a component inherit the style of their parent.
+ * The values are kept unboxed, so pushing and reading the effective style does not
+ * allocate (except for growing the stack).
+ */
+public final class TextStyleStack {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private @Nullable Colour[] colors = new Colour[INITIAL_CAPACITY];
+    private @Nullable String[] fonts = new String[INITIAL_CAPACITY];
+    private int[] styles = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Pushes text format on top of the stack.
+     *
+     * @param format text format
+     */
+    public void push(TextFormat format) {
+        Objects.requireNonNull(format, "Text format can not be null");
+        push(format.color(), format.font(), format.styles());
+    }
+
+    /**
+     * Pushes text style on top of the stack.
+     *
+     * @param style text style
+     */
+    public void push(TextStyle style) {
+        Objects.requireNonNull(style, "Text style can not be null");
+        push(style.color(), style.font(), style.styles());
+    }
+
+    private void push(@Nullable Colour color, @Nullable String font, int styles) {
+        if (size == this.styles.length) {
+            int capacity = size << 1;
+            colors = Arrays.copyOf(colors, capacity);
+            fonts = Arrays.copyOf(fonts, capacity);
+            this.styles = Arrays.copyOf(this.styles, capacity);
+        }
+        if (size > 0) {
+            if (color == null) color = colors[size - 1];
+            if (font == null) font = fonts[size - 1];
+            styles = TextStyle.merge(this.styles[size - 1], styles);
+        }
+        colors[size] = color;
+        fonts[size] = font;
+        this.styles[size] = styles;
+        size++;
+    }
+
+    /**
+     * Removes the style on top of the stack.
+     */
+    public void pop() {
+        if (size == 0) throw new IllegalStateException("Text style stack is empty");
+        size--;
+        colors[size] = null;
+        fonts[size] = null;
+    }
+
+    /**
+     * Removes all styles from the stack.
+     */
+    public void clear() {
+        Arrays.fill(colors, 0, size, null);
+        Arrays.fill(fonts, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * @return number of styles on the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return whether the stack is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return effective color, or null if not set
+     */
+    public @Nullable Colour color() {
+        return size == 0 ? null : colors[size - 1];
+    }
+
+    /**
+     * @return effective font, or null if not set
+     */
+    public @Nullable String font() {
+        return size == 0 ? null : fonts[size - 1];
+    }
+
+    /**
+     * @param style style
+     * @return effective value of the style, or null if not set
+     */
+    public @Nullable Boolean style(ChatStyle style) {
+        Objects.requireNonNull(style, "Style can not be null");
+        return size == 0 ? null : TextStyle.get(styles[size - 1], style);
+    }
+
+    /**
+     * @param style style
+     * @return whether the style is effectively set to true
+     */
+    public boolean is(ChatStyle style) {
+        Objects.requireNonNull(style, "Style can not be null");
+        return size != 0 && (styles[size - 1] & TextStyle.setBit(style) << 1) != 0;
+    }
+
+    /**
+     * @return interned text style with the effective values
+     */
+    public TextStyle toStyle() {
+        return size == 0 ? TextStyle.EMPTY : TextStyle.of(colors[size - 1], fonts[size - 1], styles[size - 1]);
+    }
+
+    /**
+     * @return new text format with the effective values
+     */
+    public TextFormat toTextFormat() {
+        return new TextFormat(toStyle());
+    }
+
+    @Override
+    public String toString() {
+        return "TextStyleStack[size=" + size + ", top=" + toStyle() + "]";
+    }
+
+}
@@ -1,15 +1,13 @@
 package org.machinemc.scriptive.util;
 
+import org.jetbrains.annotations.Nullable;
 import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.FlatComponent;
+import org.machinemc.scriptive.components.FlatComponentIterator;
 import org.machinemc.scriptive.components.TextComponent;
 import org.machinemc.scriptive.style.*;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Utils for chat operations.
@@ -17,9 +15,20 @@ import java.util.regex.Pattern;
 public final class ChatUtils {
 
     public static final char COLOR_CHAR = 167; // §
+    public static final char AMP_COLOR_CHAR = '&';
 
-    private static final Pattern AMP_COLOR_CODE_PATTERN = Pattern.compile("(?i)&([\\dabcdefklmnor])");
-    private static final Pattern COLOR_CODE_PATTERN = Pattern.compile("(?i)" + COLOR_CHAR + "([\\dabcdefklmnor])");
+    private static final char HEX_CODE = 'x';
+    private static final int HEX_LENGTH = 14;
+
+    /**
+     * Chat codes indexed by their lower case character.
+     */
+    private static final ChatCode[] CODES = new ChatCode['r' + 1];
+
+    static {
+        for (ChatColor color : ChatColor.values()) CODES[color.getCode()] = color;
+        for (ChatStyle style : ChatStyle.values()) CODES[style.getCode()] = style;
+    }
 
     private ChatUtils() {
         throw new UnsupportedOperationException();
@@ -32,7 +41,18 @@ public final class ChatUtils {
      */
     public static String colored(String string) {
         Objects.requireNonNull(string, "String can not be null");
-        return AMP_COLOR_CODE_PATTERN.matcher(string).replaceAll(COLOR_CHAR + "$1");
+        int index = string.indexOf(AMP_COLOR_CHAR);
+        if (index == -1) return string;
+        char[] chars = null;
+        for (int length = string.length(); index != -1 && index + 1 < length; index = string.indexOf(AMP_COLOR_CHAR, index + 1)) {
+            char code = string.charAt(index + 1);
+            // hex colors are translated only when followed by a complete &r&r&g&g&b&b sequence
+            if (byChar(code) == null && (Character.toLowerCase(code) != HEX_CODE || parseHex(string, index, AMP_COLOR_CHAR) == -1))
+                continue;
+            if (chars == null) chars = string.toCharArray();
+            chars[index] = COLOR_CHAR;
+        }
+        return chars != null ? new String(chars) : string;
     }
 
     /**
@@ -41,52 +61,49 @@ public final class ChatUtils {
      * @return chat component from given string
      */
     public static TextComponent stringToComponent(String string) {
+        return stringToComponent(string, COLOR_CHAR);
+    }
+
+    /**
+     * Deserializes the serialized chat component using given character
+     * for the color codes.
+     * <p>
+     * Supports color and style codes, and hex colors in the
+     * {@code §x§r§r§g§g§b§b} form. The returned component has the
+     * parts of the string with their format as children.
+     *
+     * @param string serialized chat component to deserialize
+     * @param codeChar character starting the color codes
+     * @return chat component from given string
+     */
+    public static TextComponent stringToComponent(String string, char codeChar) {
         Objects.requireNonNull(string, "String can not be null");
-        Matcher matcher = COLOR_CODE_PATTERN.matcher(string);
-        if (!matcher.find())
-            return TextComponent.of(string);
-
-        matcher.reset();
-        List<Pair<String, String>> pairs = new ArrayList<>();
-        StringBuilder builder = new StringBuilder();
-        int previousStart = -1, previousEnd = -1;
-
-        while (matcher.find()) {
-            if (previousStart != -1) {
-                String text = string.substring(previousEnd, matcher.start());
-                builder.append(string, previousStart + 1, previousEnd);
-
-                if (!text.isEmpty()) {
-                    pairs.add(new Pair<>(builder.toString(), text));
-                    builder = new StringBuilder();
-                }
+        int index = string.indexOf(codeChar);
+        if (index == -1) return TextComponent.of(string);
+
+        TextComponent component = TextComponent.empty();
+        TextStyle style = TextStyle.EMPTY;
+        int length = string.length(), textStart = 0;
+        while (index != -1 && index + 1 < length) {
+            char code = string.charAt(index + 1);
+            ChatCode chatCode = byChar(code);
+            int rgb = chatCode == null && Character.toLowerCase(code) == HEX_CODE ? parseHex(string, index, codeChar) : -1;
+            if (chatCode == null && rgb == -1) {
+                index = string.indexOf(codeChar, index + 1);
+                continue;
             }
-
-            previousStart = matcher.start();
-            previousEnd = matcher.end();
-        }
-
-        pairs.add(new Pair<>(builder.append(string, previousStart + 1, previousEnd).toString(), string.substring(previousEnd)));
-        TextComponent component = TextComponent.of("");
-
-        for (Pair<String, String> pair : pairs) {
-            TextFormat format = new TextFormat();
-            char[] colorCodes = pair.left().toCharArray();
-
-            for (char code : colorCodes) {
-                ChatCode chatCode = ChatCode.byChar(code).orElseThrow();
-                if (chatCode.isColor() || chatCode == ChatColor.RESET) {
-                    format = chatCode.asTextFormat();
-                } else {
-                    format.merge(chatCode.asTextFormat());
-                }
+            appendText(component, string, textStart, index, style);
+            if (chatCode instanceof ChatStyle chatStyle) {
+                style = style.withStyle(chatStyle, true);
+            } else {
+                // color codes reset the style
+                style = TextStyle.EMPTY.withColor(chatCode != null ? (ChatColor) chatCode : new HexColor(rgb));
             }
-
-            TextComponent child = TextComponent.of(pair.right());
-            child.setTextFormat(format);
-            component.append(child);
+            textStart = index + (chatCode != null ? 2 : HEX_LENGTH);
+            index = string.indexOf(codeChar, textStart);
         }
-
+        if (textStart == 0) return TextComponent.of(string);
+        appendText(component, string, textStart, length, style);
         return component;
     }
 
@@ -108,9 +125,26 @@ public final class ChatUtils {
      */
     public static String consoleFormatted(String string) {
         Objects.requireNonNull(string, "String can not be null");
-        return COLOR_CODE_PATTERN.matcher(colored(string)).replaceAll(matchResult -> ChatCode.byChar(matchResult.group(1))
-                .map(ChatCode::getConsoleFormat)
-                .orElse(matchResult.group()));
+        String colored = colored(string);
+        int index = colored.indexOf(COLOR_CHAR);
+        if (index == -1) return colored;
+
+        StringBuilder builder = new StringBuilder(colored.length() + 16);
+        int length = colored.length(), textStart = 0;
+        while (index != -1 && index + 1 < length) {
+            char code = colored.charAt(index + 1);
+            ChatCode chatCode = byChar(code);
+            int rgb = chatCode == null && Character.toLowerCase(code) == HEX_CODE ? parseHex(colored, index, COLOR_CHAR) : -1;
+            if (chatCode == null && rgb == -1) {
+                index = colored.indexOf(COLOR_CHAR, index + 1);
+                continue;
+            }
+            builder.append(colored, textStart, index)
+                    .append(chatCode != null ? chatCode.getConsoleFormat() : new HexColor(rgb).getConsoleFormat());
+            textStart = index + (chatCode != null ? 2 : HEX_LENGTH);
+            index = colored.indexOf(COLOR_CHAR, textStart);
+        }
+        return builder.append(colored, textStart, length).toString();
     }
 
     /**
@@ -121,18 +155,55 @@ public final class ChatUtils {
     public static String consoleFormatted(Component component) {
         Objects.requireNonNull(component, "Component can not be null");
         final StringBuilder builder = new StringBuilder();
-        final List<Component> components = new LinkedList<>(component.toFlatList());
+        final FlatComponentIterator iterator = component.flatIterator();
 
-        for (Component next : components) {
-            final TextFormat format = next.getTextFormat();
+        while (iterator.hasNext()) {
+            final FlatComponent next = iterator.next();
             builder.append(ChatColor.RESET.getConsoleFormat());
-            format.getColor().ifPresent((color) -> builder.append(color.getConsoleFormat()));
-            for (ChatStyle style : format.getStyles(true))
-                builder.append(style.getConsoleFormat());
-            builder.append(next.getString());
+            final Colour color = next.color();
+            if (color != null) builder.append(color.getConsoleFormat());
+            for (ChatStyle style : ChatStyle.values()) {
+                if (next.is(style)) builder.append(style.getConsoleFormat());
+            }
+            builder.append(next.text());
         }
 
         return builder.toString();
     }
 
+    /**
+     * Returns chat code for given character ignoring its case.
+     *
+     * @param code character of the code
+     * @return chat code, or null if there is none
+     */
+    private static @Nullable ChatCode byChar(char code) {
+        code = Character.toLowerCase(code);
+        return code < CODES.length ? CODES[code] : null;
+    }
+
+    /**
+     * Parses hex color in the {@code §x§r§r§g§g§b§b} form.
+     *
+     * @param string string
+     * @param start position of the code character before {@code x}
+     * @param codeChar character starting the codes
+     * @return rgb value, or -1 if the string does not contain valid hex color at given position
+     */
+    private static int parseHex(String string, int start, char codeChar) {
+        if (start + HEX_LENGTH > string.length()) return -1;
+        int rgb = 0;
+        for (int i = start + 2; i < start + HEX_LENGTH; i += 2) {
+            int digit = string.charAt(i) == codeChar ? Character.digit(string.charAt(i + 1), 16) : -1;
+            if (digit == -1) return -1;
+            rgb = rgb << 4 | digit;
+        }
+        return rgb;
+    }
+
+    private static void appendText(TextComponent component, String string, int start, int end, TextStyle style) {
+        if (start == end) return;
+        component.append(TextComponent.of(string.substring(start, end), new TextFormat(style)));
+    }
+
 }
@@ -0,0 +1,148 @@
+package org.machinemc.scriptive.util;
+
+import org.jetbrains.annotations.Nullable;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.FlatComponent;
+import org.machinemc.scriptive.components.FlatComponentIterator;
+import org.machinemc.scriptive.style.ChatColor;
+import org.machinemc.scriptive.style.ChatStyle;
+import org.machinemc.scriptive.style.Colour;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Renders components to legacy strings with color codes.
+ * <p>
+ * Codes are written only when the effective style changes between two parts
+ * of the component, so consecutive parts with the same style share a single
+ * sequence of codes. Hex colors are written in the {@code §x§r§r§g§g§b§b} form.
+ * <p>
+ * Renderers are stateless and can be used from multiple threads.
+ */
+public final class LegacyRenderer {
+
+    private static final ChatColor[] COLORS = ChatColor.values();
+    private static final ChatStyle[] STYLES = ChatStyle.values();
+    private static final char HEX_CODE = 'x';
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Renderer using the section sign as the code character.
+     */
+    public static final LegacyRenderer SECTION = new LegacyRenderer(ChatUtils.COLOR_CHAR);
+
+    /**
+     * Renderer using the ampersand as the code character.
+     */
+    public static final LegacyRenderer AMPERSAND = new LegacyRenderer(ChatUtils.AMP_COLOR_CHAR);
+
+    private final char codeChar;
+    private final String reset;
+    private final String[] colorCodes;
+    private final String[] styleCodes;
+
+    private LegacyRenderer(char codeChar) {
+        this.codeChar = codeChar;
+        reset = code(ChatColor.RESET.getCode());
+        colorCodes = new String[COLORS.length];
+        for (ChatColor color : COLORS)
+            colorCodes[color.ordinal()] = code(color.getCode());
+        styleCodes = new String[STYLES.length];
+        for (ChatStyle style : STYLES)
+            styleCodes[style.ordinal()] = code(style.getCode());
+    }
+
+    /**
+     * @return character used to start the codes
+     */
+    public char getCodeChar() {
+        return codeChar;
+    }
+
+    /**
+     * Renders the component to a legacy string.
+     *
+     * @param component component to render
+     * @return legacy string
+     */
+    public String render(Component component) {
+        return render(component, new StringBuilder()).toString();
+    }
+
+    /**
+     * Renders the component and appends the legacy string to the builder,
+     * the builder can be reused between calls to avoid allocations.
+     *
+     * @param component component to render
+     * @param builder builder to append to
+     * @return the builder
+     */
+    public StringBuilder render(Component component, StringBuilder builder) {
+        try {
+            render(component, (Appendable) builder);
+        } catch (IOException exception) {
+            // string builder does not throw
+            throw new UncheckedIOException(exception);
+        }
+        return builder;
+    }
+
+    /**
+     * Renders the component and appends the legacy string to the appendable.
+     *
+     * @param component component to render
+     * @param out appendable to append to
+     * @throws IOException if appending fails
+     */
+    public void render(Component component, Appendable out) throws IOException {
+        Objects.requireNonNull(component, "Component can not be null");
+        Objects.requireNonNull(out, "Appendable can not be null");
+        @Nullable Colour currentColor = null;
+        int currentStyles = 0;
+        FlatComponentIterator iterator = component.flatIterator();
+        while (iterator.hasNext()) {
+            FlatComponent part = iterator.next();
+            String text = part.text();
+            if (text.isEmpty()) continue;
+
+            Colour color = part.color();
+            int styles = 0;
+            for (ChatStyle style : STYLES) {
+                if (part.is(style)) styles |= 1 << style.ordinal();
+            }
+
+            // legacy clients reset all styles with any color code, so the color has to
+            // be written again whenever a style is removed
+            if (!Objects.equals(color, currentColor) || (currentStyles & ~styles) != 0) {
+                if (color != null) appendColor(out, color);
+                else out.append(reset);
+                currentColor = color;
+                currentStyles = 0;
+            }
+            int added = styles & ~currentStyles;
+            for (int i = 0; added != 0; i++, added >>>= 1) {
+                if ((added & 1) != 0) out.append(styleCodes[i]);
+            }
+            currentStyles = styles;
+            out.append(text);
+        }
+    }
+
+    private void appendColor(Appendable out, Colour color) throws IOException {
+        if (color instanceof ChatColor chatColor) {
+            out.append(colorCodes[chatColor.ordinal()]);
+            return;
+        }
+        int rgb = color.getRGB();
+        out.append(codeChar).append(HEX_CODE);
+        for (int shift = 20; shift >= 0; shift -= 4)
+            out.append(codeChar).append(HEX_DIGITS[rgb >>> shift & 0xF]);
+    }
+
+    private String code(char code) {
+        return new String(new char[]{codeChar, code});
+    }
+
+}
@@ -0,0 +1,108 @@
+package org.machinemc.scriptive.components;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.events.HoverEvent;
+import org.machinemc.scriptive.style.ChatColor;
+import org.machinemc.scriptive.style.ChatStyle;
+import org.machinemc.scriptive.style.TextFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentEqualityTest {
+
+    @Test
+    public void equality() {
+        TextComponent first = TextComponent.of("Hello").append(TranslationComponent.of("chat.type.text", TextComponent.of("Player")));
+        TextComponent second = first.clone();
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, KeybindComponent.of("Hello"));
+        assertNotEquals(first, TextComponent.of("Hello"));
+    }
+
+    @Test
+    public void cachedHash() {
+        TextComponent first = TextComponent.of("Hello").append(" World");
+        TextComponent second = first.clone();
+        int hash = first.hashCode();
+        assertEquals(hash, second.hashCode());
+
+        first.getSiblings().getFirst().setColor(ChatColor.RED);
+        assertNotEquals(hash, first.hashCode());
+        assertNotEquals(first, second);
+
+        second.getSiblings().getFirst().setColor(ChatColor.RED);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        first.setText("Bye");
+        assertNotEquals(first, second);
+        first.setText("Hello");
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void sharedTextStyle() {
+        TextComponent first = TextComponent.of("Hello");
+        TextComponent second = TextComponent.of("World");
+        first.setColor(ChatColor.RED);
+        first.setBold(true);
+        second.setBold(true);
+        second.setColor(ChatColor.RED);
+        assertSame(first.getTextStyle(), second.getTextStyle());
+
+        int hash = first.hashCode();
+        first.getTextFormat().setStyle(ChatStyle.ITALIC, true);
+        assertEquals(true, first.isItalic().orElseThrow());
+        assertNotEquals(hash, first.hashCode());
+
+        TextFormat format = new TextFormat(ChatColor.BLUE);
+        second.setTextFormat(format);
+        format.setColor(ChatColor.GREEN);
+        assertEquals(ChatColor.BLUE, second.getColor().orElseThrow());
+    }
+
+    @Test
+    public void ownedPartsInvalidateHash() {
+        TextComponent root = TextComponent.of("root");
+        root.append(TextComponent.of("child").append("grandchild"));
+        root.append(TranslationComponent.of("chat.type.text", TextComponent.of("argument")));
+        root.setHoverEvent(new HoverEvent<>(HoverEvent.SHOW_TEXT, new HoverEvent.Text(TextComponent.of("hover"))));
+        TextComponent copy = root.clone();
+
+        int hash = root.hashCode();
+        root.getSiblings().getFirst().getSiblings().getFirst().setBold(true);
+        assertNotEquals(hash, root.hashCode());
+        assertNotEquals(copy, root);
+        root.getSiblings().getFirst().getSiblings().getFirst().getTextFormat().setStyle(ChatStyle.BOLD, null);
+        assertEquals(hash, root.hashCode());
+        assertEquals(copy, root);
+
+        TranslationComponent translation = (TranslationComponent) root.getSiblings().getLast();
+        translation.getArguments()[0].setColor(ChatColor.RED);
+        assertNotEquals(hash, root.hashCode());
+        translation.getArguments()[0].setColor(null);
+        assertEquals(hash, root.hashCode());
+
+        HoverEvent.Text hover = (HoverEvent.Text) root.getHoverEvent().orElseThrow().contents();
+        hover.component().setItalic(true);
+        assertNotEquals(hash, root.hashCode());
+        assertNotEquals(copy, root);
+    }
+
+    @Test
+    public void partsAreCopied() {
+        TextComponent argument = TextComponent.of("argument");
+        TranslationComponent translation = TranslationComponent.of("chat.type.text", argument);
+        TextComponent hover = TextComponent.of("hover");
+        translation.setHoverEvent(new HoverEvent<>(HoverEvent.SHOW_TEXT, new HoverEvent.Text(hover)));
+        int hash = translation.hashCode();
+
+        argument.setColor(ChatColor.RED);
+        hover.setColor(ChatColor.RED);
+        assertEquals(hash, translation.hashCode());
+        assertEquals(TextComponent.of("argument"), translation.getArguments()[0]);
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.machinemc.scriptive.components;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.events.ClickEvent;
+import org.machinemc.scriptive.events.HoverEvent;
+import org.machinemc.scriptive.locale.LocaleLanguage;
+import org.machinemc.scriptive.style.ChatColor;
+import org.machinemc.scriptive.style.ChatStyle;
+import org.machinemc.scriptive.style.TextFormat;
+import org.machinemc.scriptive.util.LegacyRenderer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlatComponentIteratorTest {
+
+    private static Component tree() {
+        TextComponent root = TextComponent.of("root", new TextFormat(ChatColor.RED, ChatStyle.BOLD));
+        root.setClickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/root"));
+
+        TextComponent child = TextComponent.of("child", new TextFormat(ChatColor.BLUE));
+        child.setInsertion("insertion");
+        child.append(TextComponent.of("grandchild").modify().italic(true).finish());
+        child.append(KeybindComponent.of("key.jump"));
+        root.append(child);
+
+        root.append(ImmutableComponent.builder(TextComponent.of("immutable"))
+                .bold(false)
+                .hoverEvent(new HoverEvent<>(HoverEvent.SHOW_TEXT, new HoverEvent.Text(TextComponent.of("hover"))))
+                .append(TextComponent.of("nested"))
+                .build());
+        root.append(TranslationComponent.of("chat.type.text", TextComponent.of("a"), TextComponent.of("b")));
+        return root;
+    }
+
+    @Test
+    public void matchesFlatList() {
+        Component component = tree();
+        List<Component> expected = component.toFlatList();
+        List<Component> actual = new ArrayList<>();
+        component.forEachFlat(part -> {
+            actual.add(part.toComponent());
+            assertEquals(part.textStyle(), part.toComponent().getTextStyle());
+        });
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void resolvedStyle() {
+        FlatComponentIterator iterator = tree().flatIterator();
+        FlatComponent root = iterator.next();
+        assertEquals("root", root.text());
+        assertEquals(0, root.depth());
+
+        FlatComponent child = iterator.next();
+        assertEquals(ChatColor.BLUE, child.color());
+        assertTrue(child.is(ChatStyle.BOLD));
+        assertEquals("insertion", child.insertion());
+
+        FlatComponent grandchild = iterator.next();
+        assertEquals("grandchild", grandchild.text());
+        assertEquals(2, grandchild.depth());
+        assertEquals(ChatColor.BLUE, grandchild.color());
+        assertTrue(grandchild.is(ChatStyle.ITALIC));
+        assertEquals("/root", grandchild.clickEvent().value());
+
+        assertEquals("key.jump", iterator.next().text());
+
+        FlatComponent immutable = iterator.next();
+        assertEquals(ChatColor.RED, immutable.color());
+        assertEquals(Boolean.FALSE, immutable.style(ChatStyle.BOLD));
+        assertNull(immutable.insertion());
+        assertNotNull(immutable.hoverEvent());
+        assertNotNull(iterator.next().hoverEvent());
+
+        assertInstanceOf(TranslationComponent.class, iterator.next().component());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void doesNotModify() {
+        Component component = tree();
+        Component copy = component.clone();
+        long modifications = component.getModificationCount();
+        component.forEachFlat(part -> {});
+        assertEquals(modifications, component.getModificationCount());
+        assertEquals(copy, component);
+        assertEquals(copy.toLegacyString(), component.toLegacyString());
+    }
+
+    @Test
+    public void rootTranslation() {
+        LocaleLanguage language = LocaleLanguage.fromMap(Map.of("greeting", "Hello %s and %s!"));
+        TranslationComponent translation = TranslationComponent.of(language, "greeting",
+                TextComponent.of("Steve", new TextFormat(ChatColor.YELLOW)),
+                TextComponent.of("Alex", new TextFormat(ChatStyle.BOLD)));
+        translation.setColor(ChatColor.RED);
+        translation.append(" end");
+
+        List<Component> actual = new ArrayList<>();
+        translation.forEachFlat(part -> actual.add(part.toComponent()));
+        assertEquals(translation.toFlatList(), actual);
+        assertEquals("&cHello &eSteve&c and &r&lAlex&c! end", LegacyRenderer.AMPERSAND.render(translation));
+        assertEquals("&cHello &eSteve&c and &r&lAlex&c! end", LegacyRenderer.AMPERSAND.render(ImmutableComponent.of(translation)));
+    }
+
+}
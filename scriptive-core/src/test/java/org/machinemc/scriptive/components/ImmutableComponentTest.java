@@ -0,0 +1,73 @@
+package org.machinemc.scriptive.components;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.events.HoverEvent;
+import org.machinemc.scriptive.serialization.ComponentSerializer;
+import org.machinemc.scriptive.serialization.MapPropertiesSerializer;
+import org.machinemc.scriptive.style.ChatColor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImmutableComponentTest {
+
+    @Test
+    public void sharing() {
+        ImmutableComponent prefix = ImmutableComponent.builder(TextComponent.of("[Server] "))
+                .color(ChatColor.GOLD)
+                .bold(true)
+                .build();
+
+        ImmutableComponent first = prefix.append("first");
+        ImmutableComponent second = prefix.append("second");
+
+        assertFalse(prefix.hasSiblings());
+        assertEquals("first", first.getSiblings().getFirst().getString());
+        assertEquals("second", second.getSiblings().getFirst().getString());
+
+        TextComponent message = TextComponent.empty().append(first);
+        assertSame(first, message.getSiblings().getFirst());
+        assertSame(first.getSiblings().getFirst(), second.append(first).getSiblings().get(1).getSiblings().getFirst());
+    }
+
+    @Test
+    public void copy() {
+        TextComponent original = TextComponent.of("Hello")
+                .modify()
+                .color(ChatColor.RED)
+                .hoverEvent(new HoverEvent<>(HoverEvent.SHOW_TEXT, new HoverEvent.Text(TextComponent.of("hover"))))
+                .append(TranslationComponent.of("chat.type.text", TextComponent.of("Player"), KeybindComponent.of("key.chat")))
+                .finish();
+
+        ImmutableComponent immutable = ImmutableComponent.of(original);
+        original.setColor(ChatColor.BLUE);
+        original.clearSiblings();
+
+        assertEquals(ChatColor.RED, immutable.getColor().orElseThrow());
+        assertEquals(1, immutable.getSiblings().size());
+        assertInstanceOf(ImmutableComponent.class, ((HoverEvent.Text) immutable.getHoverEvent().orElseThrow().contents()).component());
+        assertThrows(UnsupportedOperationException.class, () -> immutable.setBold(true));
+        assertThrows(UnsupportedOperationException.class, immutable::clearSiblings);
+
+        Component mutable = immutable.toMutable();
+        assertInstanceOf(TextComponent.class, mutable);
+        assertEquals(immutable, ImmutableComponent.of(mutable));
+        assertEquals(immutable.toFlatList(), mutable.toFlatList());
+    }
+
+    @Test
+    public void serialization() {
+        ImmutableComponent component = ImmutableComponent.builder(TextComponent.of("Hello"))
+                .italic(true)
+                .append(TextComponent.of("World").modify().color(ChatColor.GREEN).finish())
+                .build();
+
+        MapPropertiesSerializer maps = MapPropertiesSerializer.get();
+        assertEquals(maps.serialize(component.toMutable().getProperties()), maps.serialize(component.getProperties()));
+
+        ComponentSerializer serializer = new ComponentSerializer();
+        Component deserialized = serializer.deserialize(serializer.serialize(component));
+        assertEquals(component.toMutable(), deserialized);
+        assertEquals(component, ImmutableComponent.of(deserialized));
+    }
+
+}
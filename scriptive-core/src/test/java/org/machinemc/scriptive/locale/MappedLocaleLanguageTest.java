@@ -0,0 +1,66 @@
+package org.machinemc.scriptive.locale;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedLocaleLanguageTest {
+
+    @Test
+    public void lookup() throws IOException {
+        Map<String, String> translations = new HashMap<>();
+        for (int i = 0; i < 500; i++) translations.put("key." + i, "value " + i);
+        translations.put("ünicode.key", "Grüße %d");
+        translations.put("", "empty key");
+
+        Path path = Files.createTempFile("scriptive", ".lang");
+        try {
+            MappedLocaleLanguage.write(translations, path);
+            MappedLocaleLanguage language = MappedLocaleLanguage.open(path);
+            assertEquals(translations.size(), language.size());
+            for (int i = 0; i < 500; i++) assertEquals("value " + i, language.getOrDefault("key." + i));
+            assertEquals("Grüße %s", language.getOrDefault("ünicode.key"));
+            assertEquals("empty key", language.getOrDefault(""));
+            assertTrue(language.has("key.42"));
+            assertFalse(language.has("key.500"));
+            assertEquals("missing", language.getOrDefault("missing"));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void convertProperties() throws IOException {
+        Path properties = Files.createTempFile("scriptive", ".properties");
+        Path path = Files.createTempFile("scriptive", ".lang");
+        try {
+            Files.writeString(properties, "chat.type.text=<%s> %s\nmenu.quit=Verlassen ä\n", StandardCharsets.UTF_8);
+            MappedLocaleLanguage.convertProperties(properties, path);
+            MappedLocaleLanguage language = MappedLocaleLanguage.open(path);
+            assertEquals("<%s> %s", language.getOrDefault("chat.type.text"));
+            assertEquals("Verlassen ä", language.getOrDefault("menu.quit"));
+        } finally {
+            Files.delete(properties);
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void malformed() throws IOException {
+        Path path = Files.createTempFile("scriptive", ".lang");
+        try {
+            Files.writeString(path, "not a language file");
+            assertThrows(IllegalArgumentException.class, () -> MappedLocaleLanguage.open(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+}
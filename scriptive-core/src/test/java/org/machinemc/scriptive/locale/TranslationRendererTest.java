@@ -0,0 +1,83 @@
+package org.machinemc.scriptive.locale;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.ImmutableComponent;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.components.TranslationComponent;
+import org.machinemc.scriptive.events.HoverEvent;
+import org.machinemc.scriptive.style.ChatColor;
+import org.machinemc.scriptive.style.TextFormat;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TranslationRendererTest {
+
+    private static TranslationRenderer renderer() {
+        TranslationRenderer renderer = new TranslationRenderer(Locale.US);
+        renderer.register(Locale.US, LocaleLanguage.fromMap(Map.of(
+                "chat.type.text", "<%s> %s",
+                "greeting", "Hello"
+        ), true));
+        renderer.register(Locale.GERMAN, LocaleLanguage.fromMap(Map.of(
+                "chat.type.text", "[%s] %s",
+                "greeting", "Hallo"
+        )));
+        return renderer;
+    }
+
+    @Test
+    public void render() {
+        TranslationRenderer renderer = renderer();
+        TranslationComponent component = TranslationComponent.of("chat.type.text",
+                TextComponent.of("Player"), TranslationComponent.of("greeting"));
+        component.setColor(ChatColor.GRAY);
+        component.append(" suffix");
+
+        Component english = renderer.render(component, Locale.US);
+        assertInstanceOf(ImmutableComponent.class, english);
+        assertEquals(TextComponent.class, english.getType());
+        assertEquals("<Player> Hello suffix", english.toLegacyString().replaceAll("§.", ""));
+        assertEquals(ChatColor.GRAY, english.getColor().orElseThrow());
+
+        assertEquals("[Player] Hallo suffix", renderer.render(component, Locale.GERMANY).toLegacyString().replaceAll("§.", ""));
+        assertEquals("<Player> Hello suffix", renderer.render(component, Locale.FRANCE).toLegacyString().replaceAll("§.", ""));
+    }
+
+    @Test
+    public void reusesUnchanged() {
+        TranslationRenderer renderer = renderer();
+        TextComponent plain = TextComponent.of("plain", new TextFormat(ChatColor.RED));
+        assertSame(plain, renderer.render(plain, Locale.US));
+
+        ImmutableComponent unchanged = ImmutableComponent.of(TextComponent.of("unchanged").append("child"));
+        ImmutableComponent root = ImmutableComponent.of(TextComponent.empty())
+                .append(unchanged)
+                .append(TranslationComponent.of("greeting"));
+        Component rendered = renderer.render(root, Locale.US);
+        assertSame(unchanged, rendered.getSiblings().getFirst());
+        assertEquals("unchangedchildHello", rendered.toLegacyString());
+    }
+
+    @Test
+    public void hoverAndMissing() {
+        TranslationRenderer renderer = renderer();
+        TextComponent component = TextComponent.of("hover me");
+        component.setHoverEvent(new HoverEvent<>(HoverEvent.SHOW_TEXT, new HoverEvent.Text(TranslationComponent.of("greeting"))));
+        component.append(TranslationComponent.of("missing.key", TranslationComponent.of("greeting")));
+
+        Component rendered = renderer.render(component, Locale.GERMAN);
+        HoverEvent.Text text = (HoverEvent.Text) rendered.getHoverEvent().orElseThrow().contents();
+        assertEquals(TextComponent.class, text.component().getType());
+        assertEquals("Hallo", text.component().getString());
+
+        Component missing = rendered.getSiblings().getFirst();
+        assertEquals(TranslationComponent.class, missing.getType());
+        TranslationComponent translation = (TranslationComponent) ((ImmutableComponent) missing).toMutable();
+        assertEquals("Hallo", translation.getArguments()[0].getString());
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.machinemc.scriptive.locale;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.components.TranslationComponent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TranslationTemplateTest {
+
+    @Test
+    public void parse() {
+        TranslationTemplate template = TranslationTemplate.parse("<%s> %s%% %1$s");
+        assertEquals(List.of(
+                new TranslationTemplate.Literal("<"),
+                new TranslationTemplate.Argument(0),
+                new TranslationTemplate.Literal("> "),
+                new TranslationTemplate.Argument(1),
+                new TranslationTemplate.Literal("%"),
+                new TranslationTemplate.Literal(" "),
+                new TranslationTemplate.Argument(1)
+        ), template.segments().orElseThrow());
+        assertTrue(template.accepts(2));
+        assertFalse(template.accepts(1));
+
+        assertTrue(TranslationTemplate.parse("100%").segments().isEmpty());
+        assertTrue(TranslationTemplate.parse("%d players").segments().isEmpty());
+    }
+
+    @Test
+    public void cached() {
+        LocaleLanguage language = LocaleLanguage.fromMap(Map.of("chat.type.text", "<%s> %s"));
+        TranslationTemplate template = TranslationTemplate.get(language, "chat.type.text", null);
+        assertSame(template, TranslationTemplate.get(language, "chat.type.text", null));
+        assertEquals("missing", TranslationTemplate.get(language, "missing", null).text());
+        assertEquals("fallback", TranslationTemplate.get(language, "missing", "fallback").text());
+
+        TranslationTemplate.invalidate(language);
+        assertNotSame(template, TranslationTemplate.get(language, "chat.type.text", null));
+    }
+
+    @Test
+    public void compiled() {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < 2000; i++) map.put("key." + i, "value %d " + i);
+        LocaleLanguage language = LocaleLanguage.fromMap(map, true);
+
+        TranslationTemplate template = language.getTemplate("key.5", null);
+        assertSame(template, language.getTemplate("key.5", null));
+        assertEquals("value %s 5", template.text());
+        assertEquals(List.of(new TranslationTemplate.Literal("value "), new TranslationTemplate.Argument(0),
+                new TranslationTemplate.Literal(" 5")), template.segments().orElseThrow());
+        assertEquals("value %s 5", language.getOrDefault("key.5"));
+        assertEquals("fallback", language.getTemplate("missing", "fallback").text());
+        assertEquals("value 10 5", TranslationComponent.of(language, "key.5", TextComponent.of("10")).getString());
+    }
+
+    @Test
+    public void render() {
+        LocaleLanguage language = LocaleLanguage.fromMap(Map.of("chat.type.text", "<%s> %s"));
+        TranslationComponent component = TranslationComponent.of(language, "chat.type.text",
+                TextComponent.of("Player"), TextComponent.of("Hello"));
+        assertEquals("<Player> Hello", component.getString());
+        assertEquals("<%s> %s", TranslationComponent.of(language, "chat.type.text", TextComponent.of("Player")).getString());
+        assertEquals("key", TranslationComponent.of(language, "key").getString());
+    }
+
+}
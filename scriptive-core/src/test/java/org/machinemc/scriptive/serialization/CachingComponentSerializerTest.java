@@ -0,0 +1,63 @@
+package org.machinemc.scriptive.serialization;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.components.TranslationComponent;
+import org.machinemc.scriptive.style.ChatColor;
+import org.machinemc.scriptive.style.ChatStyle;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingComponentSerializerTest {
+
+    @Test
+    public void invalidation() {
+        TextComponent component = TextComponent.of("Hello").append(" World");
+        CachingComponentSerializer<Map<String, ?>> serializer = new CachingComponentSerializer<>(
+                new ComponentSerializer(), MapPropertiesSerializer.get(), 16);
+
+        Map<String, ?> first = serializer.serialize(component);
+        assertSame(first, serializer.serialize(component));
+        assertEquals(1, serializer.getHitCount());
+        assertEquals(1, serializer.getMissCount());
+
+        component.getSiblings().getFirst().setColor(ChatColor.RED);
+        Map<String, ?> second = serializer.serialize(component);
+        assertNotSame(first, second);
+
+        component.getTextFormat().setStyle(ChatStyle.BOLD, true);
+        Map<String, ?> third = serializer.serialize(component);
+        assertNotSame(second, third);
+
+        component.clearSiblings();
+        component.append(" World");
+        assertNotSame(third, serializer.serialize(component));
+        assertEquals(1, serializer.getHitCount());
+
+        TranslationComponent translation = TranslationComponent.of("chat.type.text", TextComponent.of("Player"));
+        Map<String, ?> cached = serializer.serialize(translation);
+        translation.setArguments(TextComponent.of("Other"));
+        assertNotSame(cached, serializer.serialize(translation));
+    }
+
+    @Test
+    public void eviction() {
+        CachingComponentSerializer<Map<String, ?>> serializer = new CachingComponentSerializer<>(
+                new ComponentSerializer(), MapPropertiesSerializer.get(), 2);
+
+        Component first = TextComponent.of("first");
+        serializer.serialize(first);
+        serializer.serialize(TextComponent.of("second"));
+        serializer.serialize(first);
+        serializer.serialize(TextComponent.of("third"));
+
+        assertEquals(2, serializer.size());
+        assertEquals(1, serializer.getEvictionCount());
+        serializer.serialize(first);
+        assertEquals(2, serializer.getHitCount());
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.machinemc.scriptive.serialization;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentPropertiesTest {
+
+    @Test
+    public void sortedIterationTest() {
+        ComponentProperties properties = new ComponentProperties();
+        properties.set("text", "Hello");
+        properties.set("bold", true);
+        properties.set("color", "red");
+        properties.set("extra", new ComponentProperties[0]);
+        properties.set("italic", false);
+
+        List<String> keys = new ArrayList<>();
+        properties.forEach((key, property) -> keys.add(key));
+        assertEquals(List.of("bold", "color", "extra", "italic", "text"), keys);
+        assertEquals(keys, List.copyOf(properties.getKeys()));
+        assertEquals(5, properties.size());
+    }
+
+    @Test
+    public void setAndRemoveTest() {
+        ComponentProperties properties = new ComponentProperties();
+        for (int i = 0; i < 20; i++) properties.set("key" + i, i);
+        properties.set("key5", (String) null);
+        properties.set("key7", "seven");
+
+        assertEquals(19, properties.size());
+        assertFalse(properties.contains("key5"));
+        assertEquals("seven", properties.getValue("key7", String.class).orElseThrow());
+        assertEquals(Integer.valueOf(19), properties.getValueOr("key19", 0));
+        assertTrue(properties.get("key5").isEmpty());
+    }
+
+    @Test
+    public void copyTest() {
+        ComponentProperties nested = new ComponentProperties();
+        nested.set("action", "open_url");
+        ComponentProperties properties = new ComponentProperties();
+        properties.set("text", "Hello");
+        properties.set("clickEvent", nested);
+
+        ComponentProperties copy = new ComponentProperties(properties);
+        assertEquals(properties, copy);
+        assertEquals(properties.hashCode(), copy.hashCode());
+        assertSame(properties.get("text").orElseThrow(), copy.get("text").orElseThrow());
+
+        copy.getValue("clickEvent", ComponentProperties.class).orElseThrow().set("value", "https://machinemc.org");
+        assertFalse(nested.contains("value"));
+    }
+
+    @Test
+    public void writerTest() {
+        ComponentProperties target = new ComponentProperties();
+        target.set("text", "Hello");
+        ComponentPropertiesWriter writer = new ComponentPropertiesWriter(target);
+        writer.beginProperties()
+                .property("bold", true)
+                .name("clickEvent").beginProperties().property("action", "open_url").endProperties()
+                .name("extra").beginArray(2).value("World").beginProperties().property("text", "!").endProperties().endArray()
+                .endProperties();
+
+        assertEquals(List.of("bold", "clickEvent", "extra", "text"), List.copyOf(target.getKeys()));
+        assertEquals("open_url", target.getValue("clickEvent", ComponentProperties.class).orElseThrow().getValue("action").orElseThrow());
+        ComponentProperty<?>[] extra = target.getValue("extra", ComponentProperty[].class).orElseThrow();
+        assertEquals("World", extra[0].value());
+        assertThrows(IllegalStateException.class, () -> writer.value("missing name"));
+    }
+
+    @Test
+    public void viewEqualityTest() {
+        ComponentProperties properties = new ComponentProperties();
+        properties.set("text", "Hello");
+        ComponentProperties view = properties.unmodifiableView();
+
+        assertEquals(properties, view);
+        assertEquals(view, properties);
+        assertEquals(1, view.size());
+        assertThrows(UnsupportedOperationException.class, () -> view.set("text", "World"));
+    }
+
+    @Test
+    public void primitiveAccessTest() {
+        ComponentProperties properties = new ComponentProperties();
+        properties.set("bold", true);
+        properties.set("count", 64);
+        properties.set("text", "Hello");
+
+        assertTrue(properties.getBoolean("bold", false));
+        assertTrue(properties.getBoolean("italic", true));
+        assertFalse(properties.getBoolean("text", false));
+        assertEquals(64, properties.getInt("count", 1));
+        assertEquals(1, properties.getInt("bold", 1));
+        assertEquals(64, properties.unmodifiableView().getInt("count", 1));
+        assertSame(ComponentProperty.Boolean.TRUE, properties.find("bold"));
+        assertSame(properties.find("text"), properties.unmodifiableView().find("text"));
+        assertNull(properties.find("italic"));
+    }
+
+    @Test
+    public void sharedInstancesTest() {
+        assertSame(ComponentProperty.Boolean.TRUE, ComponentProperty.bool(true));
+        assertSame(ComponentProperty.Boolean.FALSE, ComponentProperty.of(false));
+        assertSame(ComponentProperty.integer(1000), ComponentProperty.integer(1000));
+        assertEquals(ComponentProperty.integer(100_000), ComponentProperty.integer(100_000));
+
+        ComponentProperties properties = new ComponentProperties();
+        properties.set("bold", true);
+        assertSame(ComponentProperty.Boolean.TRUE, properties.get("bold").orElseThrow());
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.machinemc.scriptive.serialization;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.style.ChatColor;
+import org.machinemc.scriptive.style.TextFormat;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentSerializerTest {
+
+    @Test
+    public void serializeAll() {
+        ComponentSerializer serializer = new ComponentSerializer();
+        List<Component> components = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+            components.add(TextComponent.of("line " + i % 100, new TextFormat(ChatColor.values()[i % 16])));
+
+        AtomicInteger tasks = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Map<String, ?>> outputs = serializer.serializeAll(components, MapPropertiesSerializer.get(), task -> {
+                tasks.incrementAndGet();
+                executor.execute(task);
+            });
+            assertEquals(components.size(), outputs.size());
+            for (int i = 0; i < components.size(); i++)
+                assertEquals(serializer.serialize(components.get(i), MapPropertiesSerializer.get()), outputs.get(i));
+            assertSame(outputs.get(0), outputs.get(400));
+            assertTrue(tasks.get() > 1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void serializeAllByKey() {
+        ComponentSerializer serializer = new ComponentSerializer();
+        Map<Locale, Component> components = new LinkedHashMap<>();
+        components.put(Locale.US, TextComponent.of("Hello"));
+        components.put(Locale.GERMANY, TextComponent.of("Hallo"));
+        components.put(Locale.UK, TextComponent.of("Hello"));
+
+        Map<Locale, Map<String, ?>> outputs = serializer.serializeAll(components, MapPropertiesSerializer.get(), Runnable::run);
+        assertEquals(List.copyOf(components.keySet()), List.copyOf(outputs.keySet()));
+        assertSame(outputs.get(Locale.US), outputs.get(Locale.UK));
+        assertEquals(serializer.serialize(TextComponent.of("Hallo"), MapPropertiesSerializer.get()), outputs.get(Locale.GERMANY));
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.machinemc.scriptive.serialization;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.TextComponent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapComponentStoreTest {
+
+    /**
+     * Codec storing only text of text components.
+     */
+    private static final BinaryComponentCodec TEXT_CODEC = new BinaryComponentCodec() {
+        @Override
+        public void write(Component component, ByteBuffer buffer) {
+            byte[] bytes = component.getString().getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length).put(bytes);
+        }
+
+        @Override
+        public Component read(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return TextComponent.of(new String(bytes, StandardCharsets.UTF_8));
+        }
+    };
+
+    @Test
+    public void storeAndLoad() {
+        try (OffHeapComponentStore store = new OffHeapComponentStore(TEXT_CODEC, 256)) {
+            List<OffHeapComponentStore.Handle> handles = new ArrayList<>();
+            for (int i = 0; i < 100; i++)
+                handles.add(store.store(TextComponent.of("line " + i)));
+            OffHeapComponentStore.Handle large = store.store(TextComponent.of("x".repeat(5000)));
+
+            for (int i = 0; i < 100; i++)
+                assertEquals(TextComponent.of("line " + i), handles.get(i).get());
+            assertEquals(5000, large.get().getString().length());
+            assertEquals(101, store.size());
+            assertTrue(store.allocatedSize() >= store.byteSize());
+        }
+    }
+
+    @Test
+    public void closed() {
+        OffHeapComponentStore store = new OffHeapComponentStore(TEXT_CODEC);
+        OffHeapComponentStore.Handle handle = store.store(TextComponent.of("text"));
+        store.close();
+        assertThrows(IllegalStateException.class, handle::get);
+    }
+
+}
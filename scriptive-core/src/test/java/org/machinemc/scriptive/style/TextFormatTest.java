@@ -0,0 +1,59 @@
+package org.machinemc.scriptive.style;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.serialization.ComponentProperties;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextFormatTest {
+
+    @Test
+    public void styles() {
+        TextFormat format = new TextFormat(ChatColor.RED, ChatStyle.BOLD);
+        format.setStyle(ChatStyle.ITALIC, false);
+
+        assertArrayEquals(new ChatStyle[]{ChatStyle.BOLD}, format.getStyles(true));
+        assertArrayEquals(new ChatStyle[]{ChatStyle.ITALIC}, format.getStyles(false));
+        assertArrayEquals(new ChatStyle[]{ChatStyle.OBFUSCATED, ChatStyle.STRIKETHROUGH, ChatStyle.UNDERLINED}, format.getStyles(null));
+        assertEquals(Map.of(ChatStyle.BOLD, true, ChatStyle.ITALIC, false), format.getStyles());
+
+        format.setStyle(ChatStyle.BOLD, null);
+        assertTrue(format.getStyle(ChatStyle.BOLD).isEmpty());
+        assertEquals(Map.of(ChatStyle.ITALIC, false), format.getStyles());
+    }
+
+    @Test
+    public void inheritAndMerge() {
+        TextFormat parent = new TextFormat(ChatColor.RED, "minecraft:uniform", ChatStyle.BOLD, ChatStyle.ITALIC);
+        TextFormat child = new TextFormat(ChatColor.BLUE);
+        child.setStyle(ChatStyle.BOLD, false);
+
+        TextFormat inherited = new TextFormat();
+        inherited.copy(child);
+        inherited.inheritFrom(parent);
+        assertEquals(ChatColor.BLUE, inherited.getColor().orElseThrow());
+        assertEquals("minecraft:uniform", inherited.getFont().orElseThrow());
+        assertEquals(Map.of(ChatStyle.BOLD, false, ChatStyle.ITALIC, true), inherited.getStyles());
+
+        TextFormat merged = new TextFormat();
+        merged.copy(parent);
+        merged.merge(child);
+        assertEquals(inherited, merged);
+    }
+
+    @Test
+    public void fromProperties() {
+        ComponentProperties properties = new ComponentProperties();
+        properties.set("color", "red");
+        properties.set("bold", true);
+        properties.set("italic", false);
+        properties.set("underlined", "true");
+
+        TextFormat format = new TextFormat(properties);
+        assertEquals(ChatColor.RED, format.getColor().orElseThrow());
+        assertEquals(Map.of(ChatStyle.BOLD, true, ChatStyle.ITALIC, false), format.getStyles());
+    }
+
+}
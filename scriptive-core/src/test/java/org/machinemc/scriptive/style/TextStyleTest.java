@@ -0,0 +1,66 @@
+package org.machinemc.scriptive.style;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextStyleTest {
+
+    @Test
+    public void interning() {
+        TextStyle style = TextStyle.of(ChatColor.RED, ChatStyle.BOLD, ChatStyle.ITALIC);
+        assertSame(style, TextStyle.of(ChatColor.RED, ChatStyle.ITALIC, ChatStyle.BOLD));
+        assertSame(style, new TextFormat(ChatColor.RED, ChatStyle.BOLD, ChatStyle.ITALIC).toStyle());
+        assertSame(TextStyle.EMPTY, new TextFormat().toStyle());
+        assertSame(style, style.withStyle(ChatStyle.BOLD, true));
+        assertSame(style, style.withStyle(ChatStyle.UNDERLINED, false).withStyle(ChatStyle.UNDERLINED, null));
+    }
+
+    @Test
+    public void saturatedInterning() {
+        // more distinct styles than any fixed table would hold, as gradients create
+        List<TextStyle> gradient = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) gradient.add(TextStyle.of(new HexColor(i >> 16 & 0xFF, i >> 8 & 0xFF, i & 0xFF)));
+        for (int i = 0; i < gradient.size(); i++)
+            assertSame(gradient.get(i), TextStyle.of(new HexColor(i >> 16 & 0xFF, i >> 8 & 0xFF, i & 0xFF)));
+        assertTrue(TextStyle.internedCount() >= gradient.size());
+
+        TextStyle common = TextStyle.of(ChatColor.GOLD, "minecraft:alt", ChatStyle.STRIKETHROUGH);
+        assertSame(common, TextStyle.of(ChatColor.GOLD, "minecraft:alt", ChatStyle.STRIKETHROUGH));
+    }
+
+    @Test
+    public void triState() {
+        TextStyle style = TextStyle.EMPTY
+                .withStyle(ChatStyle.BOLD, true)
+                .withStyle(ChatStyle.ITALIC, false);
+
+        assertEquals(true, style.getStyle(ChatStyle.BOLD).orElseThrow());
+        assertEquals(false, style.getStyle(ChatStyle.ITALIC).orElseThrow());
+        assertTrue(style.getStyle(ChatStyle.OBFUSCATED).isEmpty());
+        assertEquals(new TextFormat(style), style.toTextFormat());
+        assertEquals(style, style.toTextFormat().toStyle());
+    }
+
+    @Test
+    public void mergeAndInherit() {
+        TextStyle parent = TextStyle.of(ChatColor.RED, "minecraft:uniform", ChatStyle.BOLD, ChatStyle.ITALIC);
+        TextStyle child = TextStyle.of(ChatColor.BLUE).withStyle(ChatStyle.BOLD, false);
+
+        TextFormat format = child.toTextFormat();
+        format.inheritFrom(parent.toTextFormat());
+        assertSame(format.toStyle(), child.inheritFrom(parent));
+
+        format = parent.toTextFormat();
+        format.merge(child.toTextFormat());
+        assertSame(format.toStyle(), parent.merge(child));
+
+        assertEquals(ChatColor.BLUE, parent.merge(child).getColor().orElseThrow());
+        assertEquals(false, parent.merge(child).getStyle(ChatStyle.BOLD).orElseThrow());
+        assertEquals(true, parent.merge(child).getStyle(ChatStyle.ITALIC).orElseThrow());
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.machinemc.scriptive.util;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.style.ChatColor;
+import org.machinemc.scriptive.style.ChatStyle;
+import org.machinemc.scriptive.style.HexColor;
+import org.machinemc.scriptive.style.TextFormat;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChatUtilsTest {
+
+    @Test
+    public void colored() {
+        String plain = "no codes & here";
+        assertSame(plain, ChatUtils.colored(plain));
+        assertEquals("§cred §LBOLD &&§r &z", ChatUtils.colored("&cred &LBOLD &&&r &z"));
+        assertEquals("§x§1§2§a§b§c§dhex", ChatUtils.colored("&x&1&2&a&b&c&dhex"));
+        // stray hex codes without a complete color are kept
+        assertEquals("R&xyz", ChatUtils.colored("R&xyz"));
+        assertEquals("&x§1§2", ChatUtils.colored("&x&1&2"));
+    }
+
+    @Test
+    public void stringToComponent() {
+        assertEquals(TextComponent.of("plain"), ChatUtils.stringToComponent("plain"));
+
+        List<Component> parts = ChatUtils.stringToComponent("pre §cred §lbold§rreset §zkept").getSiblings();
+        assertEquals(4, parts.size());
+        assertEquals(TextComponent.of("pre "), parts.get(0));
+        assertEquals(TextComponent.of("red ", new TextFormat(ChatColor.RED)), parts.get(1));
+        assertEquals(TextComponent.of("bold", new TextFormat(ChatColor.RED, ChatStyle.BOLD)), parts.get(2));
+        assertEquals(TextComponent.of("reset §zkept", new TextFormat(ChatColor.RESET)), parts.get(3));
+    }
+
+    @Test
+    public void hexColor() {
+        List<Component> parts = ChatUtils.stringToComponent("&x&1&2&a&B&0&fhex &xyz", '&').getSiblings();
+        assertEquals(1, parts.size());
+        assertEquals(TextComponent.of("hex &xyz", new TextFormat(new HexColor(0x12AB0F))), parts.getFirst());
+    }
+
+    @Test
+    public void legacyRoundTrip() {
+        TextComponent component = TextComponent.of("a", new TextFormat(ChatColor.GOLD, ChatStyle.ITALIC));
+        component.append(TextComponent.of("b", new TextFormat(new HexColor(0xABCDEF))));
+        String legacy = component.toLegacyString();
+        assertEquals(legacy, ChatUtils.stringToComponent(legacy).toLegacyString());
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.machinemc.scriptive.util;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.style.ChatColor;
+import org.machinemc.scriptive.style.ChatStyle;
+import org.machinemc.scriptive.style.HexColor;
+import org.machinemc.scriptive.style.TextFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LegacyRendererTest {
+
+    @Test
+    public void skipsUnchangedStyle() {
+        TextComponent component = TextComponent.of("a", new TextFormat(ChatColor.RED, ChatStyle.BOLD));
+        component.append(TextComponent.of("b"));
+        component.append(TextComponent.of("c", new TextFormat(ChatStyle.ITALIC)));
+        component.append(TextComponent.of("d"));
+        assertEquals("&c&lab&oc&c&ld", LegacyRenderer.AMPERSAND.render(component));
+        assertEquals("§c§lab§oc§c§ld", LegacyRenderer.SECTION.render(TextComponent.empty().append(component)));
+    }
+
+    @Test
+    public void resetsRemovedStyle() {
+        TextComponent component = TextComponent.of("a", new TextFormat(ChatStyle.BOLD));
+        component.append(TextComponent.of("b").modify().bold(false).finish());
+        component.append(TextComponent.of("c").modify().color(ChatColor.GREEN).finish());
+        assertEquals("&la&rb&a&lc", LegacyRenderer.AMPERSAND.render(component));
+    }
+
+    @Test
+    public void hexColor() {
+        TextComponent component = TextComponent.of("hex", new TextFormat(new HexColor(0x12AB0F)));
+        assertEquals("§x§1§2§a§b§0§fhex", LegacyRenderer.SECTION.render(component));
+        assertEquals("&x&1&2&a&b&0&fhex", LegacyRenderer.AMPERSAND.render(component));
+    }
+
+    @Test
+    public void reusesBuilder() {
+        StringBuilder builder = new StringBuilder("prefix ");
+        TextComponent component = TextComponent.of("text", new TextFormat(ChatColor.GOLD));
+        assertSame(builder, LegacyRenderer.SECTION.render(component, builder));
+        assertEquals("prefix §6text", builder.toString());
+        assertEquals(LegacyRenderer.SECTION.render(component), component.toLegacyString());
+    }
+
+}
@@ -1,5 +1,7 @@
 package org.machinemc.scriptive.formatify;
 
+import org.jetbrains.annotations.Nullable;
+import org.machinemc.scriptive.components.ImmutableComponent;
 import org.machinemc.scriptive.components.TextComponent;
 import org.machinemc.scriptive.formatify.exceptions.ParseException;
 import org.machinemc.scriptive.formatify.parser.FormatifyParser;
@@ -7,6 +9,7 @@ import org.machinemc.scriptive.formatify.tag.TagResolver;
 import org.machinemc.scriptive.util.ChatUtils;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 public class Formatify {
@@ -14,17 +17,33 @@ public class Formatify {
     private final TagResolver tagResolver;
     private final Consumer<ParseException> errorHandler;
     private final boolean strict;
+    private final @Nullable FormatifyCache cache;
 
-    private Formatify(TagResolver tagResolver, Consumer<ParseException> errorHandler, boolean strict) {
+    private Formatify(TagResolver tagResolver, Consumer<ParseException> errorHandler, boolean strict, @Nullable FormatifyCache cache) {
         this.tagResolver = tagResolver;
         this.errorHandler = errorHandler;
         this.strict = strict;
+        this.cache = cache;
     }
 
     public TextComponent parse(String string) {
+        if (cache == null) return parseUncached(string);
+        return (TextComponent) cache.parse(this, string).toMutable();
+    }
+
+    public ImmutableComponent parseImmutable(String string) {
+        if (cache == null) return ImmutableComponent.of(parseUncached(string));
+        return cache.parse(this, string);
+    }
+
+    TextComponent parseUncached(String string) {
         return new FormatifyParser(this, string).parse();
     }
 
+    public FormatifyTemplate compile(String string) {
+        return new FormatifyParser(this, string).compile();
+    }
+
     public TagResolver tagResolver() {
         return tagResolver;
     }
@@ -41,20 +60,24 @@ public class Formatify {
         return !strict;
     }
 
+    public Optional<FormatifyCache> cache() {
+        return Optional.ofNullable(cache);
+    }
+
     public Formatify withTagResolver(TagResolver tagResolver) {
-        return new Formatify(tagResolver, errorHandler, strict);
+        return new Formatify(tagResolver, errorHandler, strict, cache);
     }
 
     public Formatify withErrorHandler(Consumer<ParseException> errorHandler) {
-        return new Formatify(tagResolver, errorHandler, strict);
+        return new Formatify(tagResolver, errorHandler, strict, cache);
     }
 
     public Formatify lenient() {
-        return new Formatify(tagResolver, errorHandler, false);
+        return new Formatify(tagResolver, errorHandler, false, cache);
     }
 
     public Formatify strict() {
-        return new Formatify(tagResolver, errorHandler, true);
+        return new Formatify(tagResolver, errorHandler, true, cache);
     }
 
     public static Formatify formatify() {
@@ -73,6 +96,7 @@ public class Formatify {
         private TagResolver tagResolver = TagResolver.defaults();
         private Consumer<ParseException> errorHandler = error -> {};
         private boolean strict = false;
+        private @Nullable FormatifyCache cache;
 
         public Builder resolvers(Collection<TagResolver> resolvers) {
             return tagResolver(TagResolver.resolvers(resolvers));
@@ -97,8 +121,17 @@ public class Formatify {
             return this;
         }
 
+        public Builder cache(int maximumSize) {
+            return cache(new FormatifyCache(maximumSize));
+        }
+
+        public Builder cache(@Nullable FormatifyCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
         public Formatify build() {
-            return new Formatify(tagResolver, errorHandler, strict);
+            return new Formatify(tagResolver, errorHandler, strict, cache);
         }
 
     }
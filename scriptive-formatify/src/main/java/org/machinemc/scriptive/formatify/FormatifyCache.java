@@ -0,0 +1,156 @@
+package org.machinemc.scriptive.formatify;
+
+import org.machinemc.scriptive.components.ImmutableComponent;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.formatify.tag.TagResolver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded cache of components parsed by {@link Formatify}.
+ * <p>
+ * Parsed inputs are cached by the input, tag resolver and strictness of the
+ * formatify instance that parsed them, so the cache can be shared by formatify instances
+ * derived from each other. Parsed components are stored as {@link ImmutableComponent immutable components}
+ * and either shared as they are, or copied for each caller.
+ * <p>
+ * The cache is bounded, least recently used entries are evicted first. Errors of lenient parsing
+ * are reported only when the input is parsed, not when the cached component is reused.
+ * <p>
+ * The cache can be used from multiple threads.
+ *
+ * @see Formatify.Builder#cache(int)
+ */
+public final class FormatifyCache {
+
+    private final int maximumSize;
+    private final Map<Key, ImmutableComponent> cache;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates new formatify cache.
+     *
+     * @param maximumSize maximum number of cached components
+     */
+    public FormatifyCache(int maximumSize) {
+        if (maximumSize < 1) throw new IllegalArgumentException("Maximum size has to be positive");
+        this.maximumSize = maximumSize;
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ImmutableComponent> eldest) {
+                if (size() <= FormatifyCache.this.maximumSize) return false;
+                evictionCount++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the parsed input, the input is parsed only if it is
+     * not cached already.
+     *
+     * @param formatify formatify used to parse the input
+     * @param input input
+     * @return parsed component, shared by all callers
+     */
+    ImmutableComponent parse(Formatify formatify, String input) {
+        Objects.requireNonNull(input, "Input can not be null");
+        Key key = new Key(input, formatify.tagResolver(), formatify.isStrict());
+        synchronized (cache) {
+            ImmutableComponent cached = cache.get(key);
+            if (cached != null) {
+                hitCount++;
+                return cached;
+            }
+            missCount++;
+        }
+
+        TextComponent parsed = formatify.parseUncached(input);
+        ImmutableComponent immutable = ImmutableComponent.of(parsed);
+        synchronized (cache) {
+            cache.put(key, immutable);
+        }
+        return immutable;
+    }
+
+    /**
+     * Removes all parsed components from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * @return maximum number of cached components
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return number of currently cached components
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * @return number of parsed inputs that used a cached component
+     */
+    public long getHitCount() {
+        synchronized (cache) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * @return number of parsed inputs that did not use a cached component
+     */
+    public long getMissCount() {
+        synchronized (cache) {
+            return missCount;
+        }
+    }
+
+    /**
+     * @return number of components evicted from the cache
+     */
+    public long getEvictionCount() {
+        synchronized (cache) {
+            return evictionCount;
+        }
+    }
+
+    /**
+     * Returns ratio of parsed inputs that used a cached component, or
+     * {@code 0} if nothing has been parsed yet.
+     *
+     * @return hit rate
+     */
+    public double getHitRate() {
+        synchronized (cache) {
+            long total = hitCount + missCount;
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+    }
+
+    /**
+     * Key of a cached component.
+     *
+     * @param input parsed input
+     * @param tagResolver tag resolver used to parse the input
+     * @param strict whether the input was parsed strictly
+     */
+    private record Key(String input, TagResolver tagResolver, boolean strict) {
+    }
+
+}
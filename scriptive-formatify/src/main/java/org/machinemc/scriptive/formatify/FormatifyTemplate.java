@@ -0,0 +1,296 @@
+package org.machinemc.scriptive.formatify;
+
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.ImmutableComponent;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.formatify.tag.Tag;
+import org.machinemc.scriptive.serialization.ComponentSerializer;
+import org.machinemc.scriptive.serialization.PropertiesSerializer;
+import org.machinemc.scriptive.serialization.PropertiesWriter;
+
+import java.util.*;
+
+/**
+ * Formatify input compiled into an immutable render plan.
+ * <p>
+ * The input is parsed only once, when the template is compiled. Parts of the template
+ * that do not depend on any slot are evaluated at compile time and shared as
+ * {@link ImmutableComponent immutable components} by all rendered components, only tags
+ * enclosing a slot are applied again when the template is rendered.
+ * <p>
+ * Slots are written as {@code <slot:name>} and are replaced with the provided
+ * components when the template is rendered. Slots without a value are rendered as empty.
+ * <p>
+ * Templates are immutable and can be rendered from multiple threads.
+ *
+ * @see Formatify#compile(String)
+ */
+public final class FormatifyTemplate {
+
+    /**
+     * Name of the tag marking a slot.
+     */
+    public static final String SLOT_TAG = "slot";
+
+    private static final Component[] NO_VALUES = new Component[0];
+
+    private final @Unmodifiable List<Part> parts;
+    private final @Unmodifiable List<String> slots;
+    private final @Nullable ImmutableComponent constant;
+
+    /**
+     * Creates new template from compiled parts.
+     *
+     * @param parts parts of the template
+     * @param slots names of the slots, indexed by {@link Slot#index()}
+     */
+    public FormatifyTemplate(List<Part> parts, List<String> slots) {
+        this.parts = List.copyOf(parts);
+        this.slots = List.copyOf(slots);
+        for (Part part : this.parts) checkSlots(part, this.slots.size());
+        constant = this.slots.isEmpty() ? ImmutableComponent.of(render(NO_VALUES)) : null;
+    }
+
+    /**
+     * @return parts of this template
+     */
+    public @Unmodifiable List<Part> parts() {
+        return parts;
+    }
+
+    /**
+     * Returns names of the slots of this template in the order
+     * of their first occurrence.
+     *
+     * @return names of the slots
+     */
+    public @Unmodifiable List<String> slots() {
+        return slots;
+    }
+
+    /**
+     * @return whether this template has no slots
+     */
+    public boolean isConstant() {
+        return constant != null;
+    }
+
+    /**
+     * Renders this template with slot values provided by their names.
+     *
+     * @param values slot values
+     * @return rendered component
+     */
+    public TextComponent render(Map<String, ? extends Component> values) {
+        return render(toArray(values));
+    }
+
+    /**
+     * Renders this template with slot values provided in the order
+     * of {@link #slots()}.
+     *
+     * @param values slot values
+     * @return rendered component
+     */
+    public TextComponent render(@Nullable Component... values) {
+        Objects.requireNonNull(values, "Values can not be null");
+        if (values.length > slots.size())
+            throw new IllegalArgumentException("Too many values, template has " + slots.size() + " slots");
+        TextComponent root = TextComponent.empty();
+        for (Part part : parts) {
+            // literals are shared immutable components, the rendered component is mutable
+            Component rendered = render(part, values);
+            root.append(rendered instanceof ImmutableComponent immutable ? immutable.toMutable() : rendered);
+        }
+        return root;
+    }
+
+    /**
+     * Renders this template as an immutable component with slot values
+     * provided by their names.
+     * <p>
+     * For templates without slots, the same component is returned each time.
+     *
+     * @param values slot values
+     * @return rendered immutable component
+     */
+    public ImmutableComponent renderImmutable(Map<String, ? extends Component> values) {
+        if (constant != null) return constant;
+        return ImmutableComponent.of(render(values));
+    }
+
+    /**
+     * Renders this template and serializes the rendered component.
+     *
+     * @param serializer component serializer
+     * @param propertiesSerializer properties serializer
+     * @param values slot values
+     * @return serialized component
+     * @param <T> serialized type
+     */
+    public <T> T serialize(ComponentSerializer serializer,
+                           PropertiesSerializer<T> propertiesSerializer,
+                           Map<String, ? extends Component> values) {
+        Objects.requireNonNull(serializer, "Component serializer can not be null");
+        return serializer.serialize(renderSerialized(values), propertiesSerializer);
+    }
+
+    /**
+     * Renders this template and writes the rendered component to the writer.
+     *
+     * @param serializer component serializer
+     * @param writer writer
+     * @param values slot values
+     */
+    public void write(ComponentSerializer serializer, PropertiesWriter writer, Map<String, ? extends Component> values) {
+        Objects.requireNonNull(serializer, "Component serializer can not be null");
+        serializer.serialize(renderSerialized(values), writer);
+    }
+
+    private Component renderSerialized(Map<String, ? extends Component> values) {
+        // rendered component is serialized right away, it does not need to be frozen
+        return constant != null ? constant : render(values);
+    }
+
+    private Component[] toArray(Map<String, ? extends Component> values) {
+        Objects.requireNonNull(values, "Values can not be null");
+        if (slots.isEmpty()) return NO_VALUES;
+        Component[] array = new Component[slots.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = values.get(slots.get(i));
+        return array;
+    }
+
+    private static Component render(Part part, @Nullable Component[] values) {
+        return switch (part) {
+            case Literal literal -> literal.component();
+            case Slot slot -> {
+                Component value = slot.index() < values.length ? values[slot.index()] : null;
+                yield value != null ? value : TextComponent.empty();
+            }
+            case Tagged tagged -> {
+                TextComponent component = TextComponent.empty();
+                for (Part child : tagged.parts()) {
+                    if (!component.hasSiblings() && component.getText().isEmpty() && child instanceof Literal literal && literal.isPlainText()) {
+                        component.setText(literal.component().getString());
+                        continue;
+                    }
+                    // tags expect to see the regular mutable components
+                    Component rendered = render(child, values);
+                    component.append(rendered instanceof ImmutableComponent immutable ? immutable.toMutable() : rendered);
+                }
+                tagged.tag().apply(component);
+                yield component;
+            }
+        };
+    }
+
+    private static void checkSlots(Part part, int slots) {
+        switch (part) {
+            case Slot slot -> {
+                if (slot.index() >= slots) throw new IllegalArgumentException("Slot '" + slot.name() + "' has invalid index");
+            }
+            case Tagged tagged -> tagged.parts().forEach(child -> checkSlots(child, slots));
+            case Literal ignored -> {}
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FormatifyTemplate[slots=" + slots + ", parts=" + parts + "]";
+    }
+
+    /**
+     * Part of a compiled template.
+     */
+    public sealed interface Part permits Literal, Slot, Tagged {
+
+        /**
+         * Creates literal text part.
+         *
+         * @param text text
+         * @return literal part
+         */
+        static Part literal(String text) {
+            return new Literal(ImmutableComponent.of(TextComponent.of(text)));
+        }
+
+        /**
+         * Creates part with a tag applied to the enclosed parts.
+         * <p>
+         * If none of the enclosed parts depend on a slot, the tag is applied
+         * right away and literal part is returned.
+         *
+         * @param tag tag
+         * @param parts enclosed parts
+         * @return tagged or literal part
+         */
+        static Part tagged(Tag tag, List<Part> parts) {
+            Tagged tagged = new Tagged(tag, parts);
+            for (Part part : tagged.parts()) {
+                if (!(part instanceof Literal)) return tagged;
+            }
+            return new Literal(ImmutableComponent.of(render(tagged, NO_VALUES)));
+        }
+
+    }
+
+    /**
+     * Part of a template evaluated at compile time.
+     *
+     * @param component evaluated component
+     */
+    public record Literal(ImmutableComponent component) implements Part {
+
+        public Literal {
+            Objects.requireNonNull(component, "Component can not be null");
+        }
+
+        /**
+         * @return whether the component is text without any style or children
+         */
+        public boolean isPlainText() {
+            return component.getType() == TextComponent.class
+                    && !component.hasSiblings()
+                    && component.getTextStyle().isEmpty()
+                    && component.getInsertion().isEmpty()
+                    && component.getClickEvent().isEmpty()
+                    && component.getHoverEvent().isEmpty();
+        }
+
+    }
+
+    /**
+     * Part of a template replaced with a value when the template is rendered.
+     *
+     * @param name name of the slot
+     * @param index index of the slot value
+     */
+    public record Slot(String name, int index) implements Part {
+
+        public Slot {
+            Objects.requireNonNull(name, "Name can not be null");
+            if (index < 0) throw new IllegalArgumentException("Index can not be negative");
+        }
+
+    }
+
+    /**
+     * Part of a template with a tag applied to parts depending on a slot,
+     * the tag is applied each time the template is rendered.
+     *
+     * @param tag tag
+     * @param parts enclosed parts
+     */
+    public record Tagged(Tag tag, @Unmodifiable List<Part> parts) implements Part {
+
+        public Tagged {
+            Objects.requireNonNull(tag, "Tag can not be null");
+            parts = List.copyOf(parts);
+        }
+
+    }
+
+}
@@ -1,9 +0,0 @@
-package org.machinemc.scriptive.formatify.lexer.token;
-
-public enum TokenType {
-
-    TAG_OPEN,
-    TAG_CLOSE,
-    TEXT_LITERAL,
-
-}
@@ -4,8 +4,8 @@ import org.jetbrains.annotations.NotNull;
 import org.machinemc.scriptive.formatify.Formatify;
 import org.machinemc.scriptive.formatify.exceptions.ParseException;
 
+import java.util.ArrayDeque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.function.Function;
@@ -17,12 +17,12 @@ public class ArgumentQueue implements Iterable<String> {
 
     public ArgumentQueue(Formatify formatify) {
         this.formatify = formatify;
-        this.queue = new LinkedList<>();
+        this.queue = new ArrayDeque<>();
     }
 
     public ArgumentQueue(ArgumentQueue queue) {
         this.formatify = queue.formatify;
-        this.queue = new LinkedList<>(queue.queue);
+        this.queue = new ArrayDeque<>(queue.queue);
     }
 
     public void offer(String argument) {
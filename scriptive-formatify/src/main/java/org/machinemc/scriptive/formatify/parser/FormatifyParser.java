@@ -1,81 +1,161 @@
 package org.machinemc.scriptive.formatify.parser;
 
-import org.machinemc.scriptive.components.Component;
+import org.jetbrains.annotations.Nullable;
 import org.machinemc.scriptive.components.TextComponent;
 import org.machinemc.scriptive.formatify.Formatify;
+import org.machinemc.scriptive.formatify.FormatifyTemplate;
 import org.machinemc.scriptive.formatify.exceptions.FormatifyException;
 import org.machinemc.scriptive.formatify.exceptions.ParseException;
-import org.machinemc.scriptive.formatify.lexer.token.TokenType;
 import org.machinemc.scriptive.formatify.parameter.ArgumentQueue;
-import org.machinemc.scriptive.formatify.lexer.LexicalAnalyzer;
-import org.machinemc.scriptive.formatify.lexer.token.Token;
 import org.machinemc.scriptive.formatify.tag.Tag;
 
 import java.util.*;
 
+/**
+ * Single pass parser of the Formatify format.
+ * <p>
+ * The input is scanned once from start to end, text is tracked by offsets into the input
+ * and open tags are kept on an explicit stack, so parsing takes time linear in the length
+ * of the input (excluding the time spent by the tags themselves).
+ * <p>
+ * A closing tag closes the innermost open tag with the same name, together with all
+ * tags opened after it; {@code <reset>} closes all open tags. Closing tags without a matching
+ * open tag and tags that can not be resolved are kept as text.
+ */
 public class FormatifyParser {
 
     private static final char ARGUMENT_SEPARATOR = ':';
-    
+    private static final String RESET_TAG = "reset";
+
     private final Formatify formatify;
-    private final Deque<Token> tokens;
+    private final String input;
 
-    public FormatifyParser(Formatify formatify, String string) {
-        this(formatify, new LexicalAnalyzer(string).tokenize());
-    }
+    /**
+     * Positions after the end of tags starting at given position, computed only
+     * once the input contains an unterminated tag.
+     */
+    private int @Nullable [] tagEnds;
 
-    public FormatifyParser(Formatify formatify, Deque<Token> tokens) {
-        this.formatify = formatify;
-        this.tokens = tokens;
+    public FormatifyParser(Formatify formatify, String input) {
+        this.formatify = Objects.requireNonNull(formatify, "Formatify can not be null");
+        this.input = Objects.requireNonNull(input, "Input can not be null");
     }
 
     public TextComponent parse() {
-        TextComponent root = TextComponent.empty();
-        while (!tokens.isEmpty()) {
-            Token token = tokens.peek();
-            TextComponent component = null;
-            if (token.type() == TokenType.TAG_OPEN)
-                component = handleTag();
-            if (component == null) {
-                tokens.removeFirst();
-                component = TextComponent.of(token.raw());
-            }
-            root.append(component);
-        }
-        return root;
+        ComponentOutput output = new ComponentOutput();
+        run(output);
+        return output.root;
     }
 
-    private TextComponent handleTag() {
-        Token openTag = tokens.removeFirst();
-        String[] tagArray = split(openTag.data(), ARGUMENT_SEPARATOR);
-        Tag tag = parseTag(tagArray);
-        if (tag == null) {
-            tokens.addFirst(openTag);
-            return null;
-        }
-        Deque<Token> subTokens = new LinkedList<>();
-        int level = 1;
-        while (!tokens.isEmpty()) {
-            Token token = tokens.poll();
-            if (token.type() == TokenType.TAG_OPEN && token.data().equals("reset"))
-                break;
-            if (token.type() == TokenType.TEXT_LITERAL || !token.data().equals(tagArray[0])) {
-                subTokens.add(token);
+    public FormatifyTemplate compile() {
+        TemplateOutput output = new TemplateOutput();
+        run(output);
+        return new FormatifyTemplate(output.root.parts, output.slots);
+    }
+
+    private <F> void run(Output<F> output) {
+        F root = output.root();
+        Deque<Frame<F>> stack = new ArrayDeque<>();
+        Map<String, Integer> openTags = new HashMap<>();
+        int textStart = 0, cursor = 0;
+        while ((cursor = input.indexOf('<', cursor)) != -1) {
+            int end = tagEnd(cursor);
+            if (end == -1) {
+                cursor++;
                 continue;
             }
-            if (token.type() == TokenType.TAG_OPEN) {
-                level++;
-            } else if (--level == 0) {
-                break;
+            F current = stack.isEmpty() ? root : stack.peek().value;
+            if (input.charAt(cursor + 1) == '/') {
+                String name = input.substring(cursor + 2, end - 1);
+                if (openTags.getOrDefault(name, 0) == 0) {
+                    cursor = end;
+                    continue;
+                }
+                flush(output, current, textStart, cursor);
+                Frame<F> closed;
+                do {
+                    closed = close(output, stack, openTags, root);
+                } while (!closed.name.equals(name));
+            } else {
+                String data = input.substring(cursor + 1, end - 1);
+                if (!stack.isEmpty() && data.equals(RESET_TAG)) {
+                    flush(output, current, textStart, cursor);
+                    while (!stack.isEmpty())
+                        close(output, stack, openTags, root);
+                } else {
+                    String[] tagArray = split(data, ARGUMENT_SEPARATOR);
+                    if (output.isSlot(tagArray)) {
+                        flush(output, current, textStart, cursor);
+                        output.slot(current, tagArray[1]);
+                    } else {
+                        Tag tag = parseTag(tagArray);
+                        if (tag == null) {
+                            cursor = end;
+                            continue;
+                        }
+                        flush(output, current, textStart, cursor);
+                        stack.push(new Frame<>(tagArray[0], tag, output.open(current)));
+                        openTags.merge(tagArray[0], 1, Integer::sum);
+                    }
+                }
             }
-            subTokens.add(token);
+            cursor = textStart = end;
         }
-        TextComponent parsed = detachFromRoot(new FormatifyParser(formatify, subTokens).parse());
-        tag.apply(parsed);
-        return parsed;
+        flush(output, stack.isEmpty() ? root : stack.peek().value, textStart, input.length());
+        while (!stack.isEmpty())
+            close(output, stack, openTags, root);
     }
 
-    private Tag parseTag(String[] tagArray) {
+    private <F> void flush(Output<F> output, F frame, int start, int end) {
+        if (start < end) output.text(frame, input.substring(start, end));
+    }
+
+    private static <F> Frame<F> close(Output<F> output, Deque<Frame<F>> stack, Map<String, Integer> openTags, F root) {
+        Frame<F> frame = stack.pop();
+        openTags.merge(frame.name, -1, Integer::sum);
+        output.close(frame.value, stack.isEmpty() ? root : stack.peek().value, frame.tag);
+        return frame;
+    }
+
+    /**
+     * Returns position after the end of a tag starting at given position,
+     * or {@code -1} if the tag is not terminated.
+     *
+     * @param start position of the tag
+     * @return end of the tag
+     */
+    private int tagEnd(int start) {
+        int length = input.length();
+        if (start + 1 >= length) return -1;
+        if (tagEnds == null) {
+            int level = 0;
+            for (int i = start; i < length; i++) {
+                char c = input.charAt(i);
+                if (c == '<') level++;
+                else if (c == '>' && --level == 0) return i + 1;
+            }
+            // unterminated tag, match the rest of the input at once so
+            // the following tags do not have to be scanned again
+            tagEnds = matchTags(start);
+        }
+        int end = tagEnds[start];
+        return end != 0 ? end : -1;
+    }
+
+    private int[] matchTags(int from) {
+        int length = input.length();
+        int[] ends = new int[length];
+        int[] open = new int[length - from];
+        int level = 0;
+        for (int i = from; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == '<') open[level++] = i;
+            else if (c == '>' && level > 0) ends[open[--level]] = i + 1;
+        }
+        return ends;
+    }
+
+    private @Nullable Tag parseTag(String[] tagArray) {
         String tagName = tagArray[0];
         ArgumentQueue arguments = new ArgumentQueue(formatify);
         for (int i = 1; i < tagArray.length; i++)
@@ -97,13 +177,6 @@ public class FormatifyParser {
         }
     }
 
-    private static TextComponent detachFromRoot(TextComponent root) {
-        List<Component> components = new ArrayList<>(root.getSiblings());
-        TextComponent detached = (TextComponent) components.removeFirst();
-        components.forEach(detached::append);
-        return detached;
-    }
-    
     private static String[] split(String string, char splitChar) {
         List<String> strings = new ArrayList<>();
 
@@ -111,7 +184,7 @@ public class FormatifyParser {
         StringBuilder builder = new StringBuilder();
         for (int currentIndex = 0, length = string.length(); currentIndex < length; currentIndex++) {
             char c = string.charAt(currentIndex);
-            if (c == '\\') {
+            if (c == '\\' && currentIndex + 1 < length) {
                 builder.append(string.charAt(++currentIndex));
                 continue;
             } else if (c == '<') {
@@ -120,7 +193,7 @@ public class FormatifyParser {
                 level--;
             } else if (c == splitChar && level == 0) {
                 strings.add(builder.toString());
-                builder = new StringBuilder();
+                builder.setLength(0);
                 continue;
             }
             builder.append(c);
@@ -131,4 +204,134 @@ public class FormatifyParser {
         return strings.toArray(new String[0]);
     }
 
+    /**
+     * Builds the result of the parser while the input is scanned.
+     *
+     * @param <F> type of the parts enclosed by a tag
+     */
+    private interface Output<F> {
+
+        F root();
+
+        F open(F parent);
+
+        void text(F frame, String text);
+
+        boolean isSlot(String[] tagArray);
+
+        void slot(F frame, String name);
+
+        void close(F frame, F parent, Tag tag);
+
+    }
+
+    /**
+     * Builds the component in place, each open tag appends an empty component
+     * to its parent that is filled in as the input is scanned, so no component
+     * is copied after it has been built.
+     */
+    private static final class ComponentOutput implements Output<TextComponent> {
+
+        private final TextComponent root = TextComponent.empty();
+
+        @Override
+        public TextComponent root() {
+            return root;
+        }
+
+        @Override
+        public TextComponent open(TextComponent parent) {
+            parent.append(TextComponent.empty());
+            // appended component is a copy
+            return (TextComponent) parent.getSiblings().getLast();
+        }
+
+        @Override
+        public void text(TextComponent frame, String text) {
+            if (frame != root && !frame.hasSiblings() && frame.getText().isEmpty()) {
+                frame.setText(text);
+                return;
+            }
+            frame.append(text);
+        }
+
+        @Override
+        public boolean isSlot(String[] tagArray) {
+            return false;
+        }
+
+        @Override
+        public void slot(TextComponent frame, String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close(TextComponent frame, TextComponent parent, Tag tag) {
+            tag.apply(frame);
+        }
+
+    }
+
+    private static final class TemplateOutput implements Output<TemplateOutput.Parts> {
+
+        private final Parts root = new Parts();
+        private final List<String> slots = new ArrayList<>();
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        @Override
+        public Parts root() {
+            return root;
+        }
+
+        @Override
+        public Parts open(Parts parent) {
+            return new Parts();
+        }
+
+        @Override
+        public void text(Parts frame, String text) {
+            frame.parts.add(FormatifyTemplate.Part.literal(text));
+        }
+
+        @Override
+        public boolean isSlot(String[] tagArray) {
+            return tagArray.length == 2 && tagArray[0].equals(FormatifyTemplate.SLOT_TAG);
+        }
+
+        @Override
+        public void slot(Parts frame, String name) {
+            int index = indices.computeIfAbsent(name, key -> {
+                slots.add(key);
+                return slots.size() - 1;
+            });
+            frame.parts.add(new FormatifyTemplate.Slot(name, index));
+        }
+
+        @Override
+        public void close(Parts frame, Parts parent, Tag tag) {
+            parent.parts.add(FormatifyTemplate.Part.tagged(tag, frame.parts));
+        }
+
+        private static final class Parts {
+
+            private final List<FormatifyTemplate.Part> parts = new ArrayList<>();
+
+        }
+
+    }
+
+    private static final class Frame<F> {
+
+        private final String name;
+        private final Tag tag;
+        private final F value;
+
+        private Frame(String name, Tag tag, F value) {
+            this.name = name;
+            this.tag = tag;
+            this.value = value;
+        }
+
+    }
+
 }
@@ -7,7 +7,9 @@ import org.machinemc.scriptive.events.ClickEvent;
 import org.machinemc.scriptive.events.HoverEvent;
 import org.machinemc.scriptive.formatify.exceptions.ParseException;
 import org.machinemc.scriptive.formatify.parameter.*;
+import org.machinemc.scriptive.style.ChatColor;
 import org.machinemc.scriptive.style.Colour;
+import org.machinemc.scriptive.style.HexColor;
 
 import java.util.Arrays;
 import java.util.Optional;
@@ -23,14 +25,10 @@ public interface DefaultTags {
             .componentUpdater((component, arguments) -> component.setColor(arguments.get("color")))
             .build();
 
-    TagResolver DYNAMIC_COLOR = (tagName, arguments) -> {
-        try {
-            Colour color = ColorParameter.any().parse(tagName);
-            return Optional.of(component -> component.setColor(color));
-        } catch (ParseException ignore) {
-            return Optional.empty();
-        }
-    };
+    TagResolver DYNAMIC_COLOR = (tagName, arguments) -> ChatColor.byName(tagName)
+            .map(Colour.class::cast)
+            .or(() -> HexColor.of(tagName))
+            .map(color -> component -> component.setColor(color));
 
     TagResolver BOLD = TagResolver.resolver(Set.of("bold", "b"), component -> component.setBold(true));
     TagResolver OBFUSCATED = TagResolver.resolver(
@@ -69,8 +67,7 @@ public interface DefaultTags {
             component.setClickEvent(new ClickEvent(action, value));
         })
         .build();
-    TagResolver HOVER_EVENT = (tagName, arguments) -> {
-        if (!tagName.equals("hover") && !tagName.equals("hover_event")) return Optional.empty();
+    TagResolver HOVER_EVENT = TagResolver.named(Set.of("hover", "hover_event"), (tagName, arguments) -> {
         String actionName = arguments.pollOr("'action' is not specified");
         HoverEvent.Action<?> action = HoverEvent.Action.byName(actionName);
         if (action == null) throw new ParseException("'" + actionName + "' is not a valid hover action");
@@ -96,24 +93,22 @@ public interface DefaultTags {
             );
         }
         return Optional.of(component -> component.setHoverEvent(hoverEvent));
-    };
+    });
 
     TagResolver KEYBIND = TagResolver.builder()
         .names("keybind", "key")
         .parameter("keybind", new StringParameter())
         .componentUpdater((component, arguments) -> component.append(KeybindComponent.of(arguments.get("keybind"))))
         .build();
-    TagResolver TRANSLATION = (tagName, arguments) -> {
-        if (!tagName.equals("translation") && !tagName.equals("translate")) return Optional.empty();
+    TagResolver TRANSLATION = TagResolver.named(Set.of("translation", "translate"), (tagName, arguments) -> {
         String key = arguments.pollOr("translation key is not specified");
         Component[] translationArguments = new Component[arguments.size()];
         for (int i = 0; i < translationArguments.length; i++)
             translationArguments[i] = arguments.poll(arguments.formatify()::parse);
         return Optional.of(component -> component.append(TranslationComponent.of(key, translationArguments)));
-    };
+    });
 
-    TagResolver GRADIENT = (tagName, arguments) -> {
-        if (!tagName.equals("gradient")) return Optional.empty();
+    TagResolver GRADIENT = TagResolver.named(Set.of("gradient"), (tagName, arguments) -> {
         Colour[] colors = new Colour[arguments.size()];
         double offset = 0;
         for (int i = 0; i < colors.length; i++) {
@@ -133,12 +128,11 @@ public interface DefaultTags {
         }
         if (colors.length < 2) throw new ParseException("A gradient must have 2 or more colors");
         return Optional.of(new GradientTag(colors, offset));
-    };
-    TagResolver RAINBOW = (tagName, arguments) -> {
-        if (!tagName.equals("rainbow")) return Optional.empty();
+    });
+    TagResolver RAINBOW = TagResolver.named(Set.of("rainbow"), (tagName, arguments) -> {
         double offset = arguments.pollOrDefault(new DoubleParameter()::parse, 0d);
         return Optional.of(new RainbowTag(offset));
-    };
+    });
 
     TagResolver ALL = TagResolver.resolvers(
             COLOR,
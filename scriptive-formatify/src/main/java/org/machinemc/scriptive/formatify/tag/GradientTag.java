@@ -5,6 +5,7 @@ import org.machinemc.scriptive.components.TextComponent;
 import org.machinemc.scriptive.style.Colour;
 import org.machinemc.scriptive.style.HexColor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class GradientTag implements Tag {
@@ -12,57 +13,136 @@ public class GradientTag implements Tag {
     private final Colour[] colors;
     private final double offset;
     private final double colorLength;
+    // maximum perceived difference of colors merged into a single component,
+    // 0 merges only characters of the same color
+    private final double tolerance;
 
     public GradientTag(Colour[] colors, double offset) {
+        this(colors, offset, 0);
+    }
+
+    public GradientTag(Colour[] colors, double offset, double tolerance) {
+        if (tolerance < 0) throw new IllegalArgumentException("Tolerance can not be negative");
         this.colors = colors;
         this.offset = offset;
         this.colorLength = (double) 1 / (colors.length - 1);
+        this.tolerance = tolerance;
     }
 
+    /**
+     * Returns color of the gradient at given position.
+     *
+     * @param value position in the gradient
+     * @return color at the position
+     * @deprecated the gradient no longer calls this method, override {@link #lerpRGB(double)}
+     */
+    @Deprecated(forRemoval = true)
     protected Colour lerp(double value) {
+        return new HexColor(lerpRGB(value));
+    }
+
+    /**
+     * Returns packed RGB color of the gradient at given position,
+     * subclasses can override this method to change the gradient colors.
+     *
+     * @param value position in the gradient
+     * @return packed RGB color at the position
+     */
+    protected int lerpRGB(double value) {
         double valueRatio = value / colorLength;
         int index = (int) Math.floor(valueRatio);
         Colour first = colors[index % colors.length];
         Colour second = colors[(index + 1) % colors.length];
         double colorFraction = valueRatio % 1;
-        return new HexColor(
-                (int) (first.getRed() + (second.getRed() - first.getRed()) * colorFraction),
-                (int) (first.getGreen() + (second.getGreen() - first.getGreen()) * colorFraction),
-                (int) (first.getBlue() + (second.getBlue() - first.getBlue()) * colorFraction)
-        );
+        int red = (int) (first.getRed() + (second.getRed() - first.getRed()) * colorFraction);
+        int green = (int) (first.getGreen() + (second.getGreen() - first.getGreen()) * colorFraction);
+        int blue = (int) (first.getBlue() + (second.getBlue() - first.getBlue()) * colorFraction);
+        return (red & 0xFF) << 16 | (green & 0xFF) << 8 | blue & 0xFF;
     }
 
     @Override
     public void apply(Component component) {
-        int length = length(component);
-        double value = offset, step = (double) 1 / length;
-        TextComponent gradient = TextComponent.empty();
         List<Component> parts = component.toFlatList();
+        int[] ramp = ramp(length(parts));
+        List<Component> gradient = new ArrayList<>();
+        StringBuilder run = new StringBuilder();
+        Colour runColor = null;
+        int index = 0;
         for (Component part : parts) {
             if (!(part instanceof TextComponent)) {
-                value += step;
+                flush(gradient, run, runColor);
+                runColor = null;
                 if (part.getColor().isEmpty())
-                    part.setColor(lerp(value));
-                gradient.append(part);
+                    part.setColor(new HexColor(ramp[index]));
+                index++;
+                gradient.add(part);
+                continue;
             }
             String string = part.getString();
-            if (string.isEmpty())
-                continue;
-            for (int i = 0, strLen = string.length(); i < strLen; i++) {
-                value += step;
-                Colour color = part.getColor().orElse(lerp(value));
-                gradient.append(string.charAt(i) + "", color.asTextFormat());
+            Colour partColor = part.getColor().orElse(null);
+            for (int i = 0, strLen = string.length(); i < strLen; index++) {
+                int next = i + Character.charCount(string.codePointAt(i));
+                boolean merge;
+                if (partColor != null) {
+                    merge = partColor.equals(runColor);
+                } else {
+                    merge = runColor != null && similar(runColor.getRGB(), ramp[index]);
+                }
+                if (!merge) {
+                    flush(gradient, run, runColor);
+                    runColor = partColor != null ? partColor : new HexColor(ramp[index]);
+                }
+                run.append(string, i, next);
+                i = next;
             }
         }
+        flush(gradient, run, runColor);
         component.clearSiblings();
-        component.merge(gradient);
+        // the component itself is part of the gradient, its text is replaced as well
+        component.merge(TextComponent.empty());
+        gradient.forEach(component::append);
+    }
+
+    private int[] ramp(int length) {
+        int[] ramp = new int[length];
+        double value = offset, step = (double) 1 / length;
+        for (int i = 0; i < length; i++) {
+            value += step;
+            ramp[i] = lerpRGB(value);
+        }
+        return ramp;
     }
 
-    private static int length(Component component) {
+    private boolean similar(int first, int second) {
+        if (first == second) return true;
+        if (tolerance == 0) return false;
+        // 'redmean' approximation of the perceived color difference
+        int red1 = first >> 16 & 0xFF, red2 = second >> 16 & 0xFF;
+        int redMean = (red1 + red2) / 2;
+        int red = red1 - red2;
+        int green = (first >> 8 & 0xFF) - (second >> 8 & 0xFF);
+        int blue = (first & 0xFF) - (second & 0xFF);
+        double distanceSquared = (((512 + redMean) * red * red) >> 8) + 4 * green * green + (((767 - redMean) * blue * blue) >> 8);
+        return distanceSquared <= tolerance * tolerance;
+    }
+
+    private static void flush(List<Component> gradient, StringBuilder run, Colour color) {
+        if (run.isEmpty())
+            return;
+        gradient.add(TextComponent.of(run.toString(), color.asTextFormat()));
+        run.setLength(0);
+    }
+
+    private static int length(List<Component> parts) {
         int length = 0;
-        length += component instanceof TextComponent ? component.getString().length() : 1;
-        for (Component sibling : component.getSiblings())
-            length += length(sibling);
+        for (Component part : parts) {
+            if (!(part instanceof TextComponent)) {
+                length++;
+                continue;
+            }
+            String string = part.getString();
+            length += string.codePointCount(0, string.length());
+        }
         return length;
     }
 
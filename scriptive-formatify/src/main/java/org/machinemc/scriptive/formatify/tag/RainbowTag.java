@@ -14,6 +14,10 @@ public class RainbowTag extends GradientTag {
     public static final Colour VIOLET = new HexColor(0x70369D);
 
     public RainbowTag(double offset) {
+        this(offset, 0);
+    }
+
+    public RainbowTag(double offset, double tolerance) {
         super(new Colour[]{
                 RED,
                 ORANGE,
@@ -22,7 +26,7 @@ public class RainbowTag extends GradientTag {
                 BLUE,
                 INDIGO,
                 VIOLET
-        }, offset);
+        }, offset, tolerance);
     }
 
 }
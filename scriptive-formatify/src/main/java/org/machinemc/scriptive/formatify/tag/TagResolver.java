@@ -16,6 +16,20 @@ public interface TagResolver {
 
     Optional<Tag> resolve(String tagName, ArgumentQueue arguments) throws ParseException;
 
+    /**
+     * Returns names of all tags this resolver can resolve, or empty if
+     * the resolver can resolve tags of any name.
+     * <p>
+     * Resolvers with known names are indexed when combined using
+     * {@link #resolvers(Collection)}, so they are asked only for tags
+     * with one of their names.
+     *
+     * @return names of the tags
+     */
+    default Optional<Set<String>> names() {
+        return Optional.empty();
+    }
+
     static TagResolver defaults() {
         return DefaultTags.ALL;
     }
@@ -28,7 +42,11 @@ public interface TagResolver {
     }
 
     static TagResolver resolver(Set<String> names, Tag tag) {
-        return resolver(names::contains, tag);
+        return named(names, (tagName, arguments) -> Optional.of(tag));
+    }
+
+    static TagResolver named(Set<String> names, TagResolver resolver) {
+        return new NamedResolver(Set.copyOf(names), resolver);
     }
 
     static TagResolver resolver(Predicate<String> predicate, Tag tag) {
@@ -82,7 +100,7 @@ public interface TagResolver {
         }
 
         public TagResolver build() {
-            return new Resolver(names, parameters, componentUpdater);
+            return new Resolver(Set.copyOf(names), List.copyOf(parameters), componentUpdater);
         }
 
     }
@@ -92,10 +110,10 @@ public interface TagResolver {
 class Resolver implements TagResolver {
 
     private final Set<String> names;
-    private final Queue<ParameterInfo<?>> parameters;
+    private final List<ParameterInfo<?>> parameters;
     private final BiConsumer<Component, Arguments> componentUpdater;
 
-    Resolver(Set<String> names, Queue<ParameterInfo<?>> parameters, BiConsumer<Component, Arguments> componentUpdater) {
+    Resolver(Set<String> names, List<ParameterInfo<?>> parameters, BiConsumer<Component, Arguments> componentUpdater) {
         this.names = names;
         this.parameters = parameters;
         this.componentUpdater = componentUpdater;
@@ -104,11 +122,13 @@ class Resolver implements TagResolver {
     @Override
     public Optional<Tag> resolve(String tagName, ArgumentQueue arguments) throws ParseException {
         if (!names.contains(tagName)) return Optional.empty();
+        // the resolver is reused, parameters are consumed by moving the index
+        int next = 0;
         Map<String, Object> parsedArguments = HashMap.newHashMap(arguments.size());
         while (!arguments.isEmpty()) {
             String argument = arguments.poll();
-            ParameterInfo<?> parameterInfo = parameters.poll();
-            if (parameterInfo == null) throw new ParseException("Too many arguments");
+            if (next == parameters.size()) throw new ParseException("Too many arguments");
+            ParameterInfo<?> parameterInfo = parameters.get(next++);
             try {
                 Object parsed = parameterInfo.parameter().parse(argument);
                 parsedArguments.put(parameterInfo.name(), parsed);
@@ -118,28 +138,80 @@ class Resolver implements TagResolver {
                 arguments.offer(argument);
             }
         }
-        for (ParameterInfo<?> parameter : parameters) {
-            if (parameter.optional()) continue;
+        for (int i = next; i < parameters.size(); i++) {
+            if (parameters.get(i).optional()) continue;
             throw new ParseException("Not enough arguments");
         }
         Formatify formatify = arguments.formatify();
         return Optional.of(component -> componentUpdater.accept(component, new Arguments(formatify, parsedArguments)));
     }
 
+    @Override
+    public Optional<Set<String>> names() {
+        return Optional.of(names);
+    }
+
     record ParameterInfo<T>(String name, Parameter<T> parameter, boolean optional) {}
 
 }
 
+class NamedResolver implements TagResolver {
+
+    private final Set<String> names;
+    private final TagResolver resolver;
+
+    NamedResolver(Set<String> names, TagResolver resolver) {
+        this.names = names;
+        this.resolver = resolver;
+    }
+
+    @Override
+    public Optional<Tag> resolve(String tagName, ArgumentQueue arguments) throws ParseException {
+        if (!names.contains(tagName)) return Optional.empty();
+        return resolver.resolve(tagName, arguments);
+    }
+
+    @Override
+    public Optional<Set<String>> names() {
+        return Optional.of(names);
+    }
+
+}
+
 class Resolvers implements TagResolver {
 
-    Collection<TagResolver> resolvers;
+    private final List<TagResolver> resolvers;
+    // resolvers asked for tags of given name, in the order they were registered,
+    // including the resolvers without known names
+    private final Map<String, TagResolver[]> index = new HashMap<>();
+    // resolvers asked for tags with names that are not indexed
+    private final TagResolver[] fallback;
 
     public Resolvers(Collection<TagResolver> resolvers) {
-        this.resolvers = resolvers;
+        List<TagResolver> flattened = new ArrayList<>();
+        flatten(resolvers, flattened);
+        this.resolvers = List.copyOf(flattened);
+
+        Map<String, List<TagResolver>> named = new HashMap<>();
+        List<TagResolver> fallback = new ArrayList<>();
+        for (TagResolver resolver : flattened) {
+            Set<String> names = resolver.names().orElse(null);
+            if (names == null) {
+                // resolvers without names are asked for every tag
+                fallback.add(resolver);
+                named.values().forEach(list -> list.add(resolver));
+                continue;
+            }
+            for (String name : names)
+                named.computeIfAbsent(name, n -> new ArrayList<>(fallback)).add(resolver);
+        }
+        named.forEach((name, list) -> index.put(name, list.toArray(new TagResolver[0])));
+        this.fallback = fallback.toArray(new TagResolver[0]);
     }
 
     @Override
     public Optional<Tag> resolve(String tagName, ArgumentQueue arguments) throws ParseException {
+        TagResolver[] resolvers = index.getOrDefault(tagName, fallback);
         ParseException exception = null;
         for (TagResolver resolver : resolvers) {
             ArgumentQueue cloneArguments = new ArgumentQueue(arguments);
@@ -159,4 +231,12 @@ class Resolvers implements TagResolver {
         return Optional.empty();
     }
 
+    private static void flatten(Collection<TagResolver> resolvers, List<TagResolver> flattened) {
+        for (TagResolver resolver : resolvers) {
+            // nested resolvers are already flattened
+            if (resolver instanceof Resolvers nested) flattened.addAll(nested.resolvers);
+            else flattened.add(resolver);
+        }
+    }
+
 }
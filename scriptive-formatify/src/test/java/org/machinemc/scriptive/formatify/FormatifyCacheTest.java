@@ -0,0 +1,84 @@
+package org.machinemc.scriptive.formatify;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.formatify.tag.DefaultTags;
+import org.machinemc.scriptive.formatify.tag.TagResolver;
+import org.machinemc.scriptive.style.ChatColor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FormatifyCacheTest {
+
+    @Test
+    public void counters() {
+        FormatifyCache cache = new FormatifyCache(2);
+        Formatify formatify = Formatify.builder().cache(cache).build();
+        assertEquals(0, cache.getHitRate());
+
+        formatify.parse("a");
+        formatify.parse("a");
+        formatify.parse("b");
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+
+        // 'b' is the least recently used entry
+        formatify.parse("a");
+        formatify.parse("c");
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.size());
+        formatify.parse("a");
+        formatify.parse("b");
+        assertEquals(3, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(3.0 / 7, cache.getHitRate());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new FormatifyCache(0));
+    }
+
+    @Test
+    public void strictness() {
+        FormatifyCache cache = new FormatifyCache(16);
+        Formatify lenient = Formatify.builder().cache(cache).build();
+        Formatify strict = lenient.strict();
+
+        assertNotSame(lenient.parseImmutable("<red>a"), strict.parseImmutable("<red>a"));
+        assertEquals(2, cache.getMissCount());
+        assertSame(strict.parseImmutable("<red>a"), strict.parseImmutable("<red>a"));
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void tagResolver() {
+        FormatifyCache cache = new FormatifyCache(16);
+        Formatify formatify = Formatify.builder().cache(cache).build();
+        Formatify boldOnly = formatify.withTagResolver(TagResolver.resolvers(DefaultTags.BOLD));
+
+        assertEquals(ChatColor.RED, formatify.parse("<red>a").getSiblings().getFirst().getColor().orElseThrow());
+        assertEquals("<red>a", boldOnly.parse("<red>a").toLegacyString());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void sharedInstances() {
+        Formatify formatify = Formatify.builder().cache(16).build();
+        assertSame(formatify.parseImmutable("<red>a"), formatify.parseImmutable("<red>a"));
+
+        TextComponent first = formatify.parse("<red>a");
+        TextComponent second = formatify.parse("<red>a");
+        assertNotSame(first, second);
+        assertEquals(first, second);
+
+        first.getSiblings().getFirst().setColor(ChatColor.BLUE);
+        first.setText("b");
+        assertEquals(ChatColor.RED, formatify.parse("<red>a").getSiblings().getFirst().getColor().orElseThrow());
+        assertEquals(second, formatify.parse("<red>a"));
+        assertEquals(second, formatify.parseImmutable("<red>a").toMutable());
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.machinemc.scriptive.formatify;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.ImmutableComponent;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.serialization.ComponentSerializer;
+import org.machinemc.scriptive.serialization.MapPropertiesSerializer;
+import org.machinemc.scriptive.style.ChatColor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FormatifyTemplateTest {
+
+    private static final Formatify FORMATIFY = Formatify.builder().build();
+
+    @Test
+    public void compile() {
+        FormatifyTemplate template = FORMATIFY.compile("<red>Hello <slot:name></red>, you have <slot:count> messages");
+        assertEquals(List.of("name", "count"), template.slots());
+        assertFalse(template.isConstant());
+        assertInstanceOf(FormatifyTemplate.Tagged.class, template.parts().getFirst());
+        assertInstanceOf(FormatifyTemplate.Slot.class, template.parts().get(2));
+    }
+
+    @Test
+    public void slotsByName() {
+        FormatifyTemplate template = FORMATIFY.compile("<red>Hello <slot:name></red>, <slot:name>!");
+        Component rendered = template.render(Map.of("name", TextComponent.of("Steve")));
+        assertEquals(FORMATIFY.parse("<red>Hello Steve</red>, Steve!").toLegacyString(), rendered.toLegacyString());
+        assertEquals(List.of("name"), template.slots());
+    }
+
+    @Test
+    public void slotsByIndex() {
+        FormatifyTemplate template = FORMATIFY.compile("<slot:first> and <blue><slot:second></blue>");
+        Component rendered = template.render(TextComponent.of("Steve"), TextComponent.of("Alex"));
+        assertEquals(FORMATIFY.parse("Steve and <blue>Alex</blue>").toLegacyString(), rendered.toLegacyString());
+    }
+
+    @Test
+    public void mutableOutput() {
+        FormatifyTemplate template = FORMATIFY.compile("Hello <slot:name>");
+        TextComponent expected = FORMATIFY.parse("Hello ").append(TextComponent.of("Steve"));
+        assertEquals(expected, template.render(TextComponent.of("Steve")));
+        assertEquals(expected, template.render(ImmutableComponent.of(TextComponent.of("Steve"))));
+
+        // children of the rendered component are mutable
+        template.render(TextComponent.of("Steve")).getSiblings().forEach(sibling -> sibling.setColor(ChatColor.RED));
+
+        FormatifyTemplate constant = FORMATIFY.compile("Hello <red>World</red>");
+        assertEquals(FORMATIFY.parse("Hello <red>World</red>"), constant.render());
+        constant.render().getSiblings().forEach(sibling -> sibling.setBold(true));
+        assertEquals(FORMATIFY.parse("Hello <red>World</red>"), constant.render());
+    }
+
+    @Test
+    public void missingSlots() {
+        FormatifyTemplate template = FORMATIFY.compile("Hello <slot:name><bold><slot:suffix></bold>");
+        assertEquals("Hello ", template.render(Map.of()).toLegacyString().replaceAll("§.", ""));
+        assertEquals("Hello Steve", template.render(TextComponent.of("Steve")).toLegacyString().replaceAll("§.", ""));
+        assertEquals("Hello Steve", template.render(TextComponent.of("Steve"), null).toLegacyString().replaceAll("§.", ""));
+    }
+
+    @Test
+    public void tooManyValues() {
+        FormatifyTemplate template = FORMATIFY.compile("Hello <slot:name>");
+        assertThrows(IllegalArgumentException.class, () -> template.render(TextComponent.of("Steve"), TextComponent.of("Alex")));
+        assertThrows(IllegalArgumentException.class, () -> FORMATIFY.compile("Hello").render(TextComponent.of("Steve")));
+    }
+
+    @Test
+    public void constantTemplate() {
+        FormatifyTemplate template = FORMATIFY.compile("<red>Hello</red> <bold>World</bold>");
+        assertTrue(template.isConstant());
+        assertSame(template.renderImmutable(Map.of()), template.renderImmutable(Map.of()));
+        assertEquals(FORMATIFY.parse("<red>Hello</red> <bold>World</bold>").toLegacyString(), template.render().toLegacyString());
+
+        TextComponent rendered = template.render();
+        rendered.setColor(ChatColor.BLUE);
+        assertNotEquals(rendered.toLegacyString(), template.render().toLegacyString());
+    }
+
+    @Test
+    public void serialize() {
+        ComponentSerializer serializer = new ComponentSerializer();
+        FormatifyTemplate template = FORMATIFY.compile("<red>Hello <slot:name></red>");
+        Map<String, TextComponent> values = Map.of("name", TextComponent.of("Steve"));
+
+        Map<String, ?> serialized = template.serialize(serializer, MapPropertiesSerializer.get(), values);
+        assertEquals(template.render(values), serializer.deserialize(serialized, MapPropertiesSerializer.get()));
+        FormatifyTemplate untagged = FORMATIFY.compile("Hello <slot:name>");
+        Map<String, ?> serializedUntagged = untagged.serialize(serializer, MapPropertiesSerializer.get(), values);
+        assertEquals(untagged.render(values), serializer.deserialize(serializedUntagged, MapPropertiesSerializer.get()));
+
+        FormatifyTemplate constant = FORMATIFY.compile("<red>Hello</red>");
+        Map<String, ?> serializedConstant = constant.serialize(serializer, MapPropertiesSerializer.get(), Map.of());
+        assertEquals(serializer.serialize(constant.render(), MapPropertiesSerializer.get()), serializedConstant);
+    }
+
+}
@@ -0,0 +1,90 @@
+package org.machinemc.scriptive.formatify.parser;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.formatify.Formatify;
+import org.machinemc.scriptive.formatify.exceptions.FormatifyException;
+import org.machinemc.scriptive.formatify.exceptions.ParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FormatifyParserTest {
+
+    private static final Formatify FORMATIFY = Formatify.builder().build();
+
+    private static String legacy(String input) {
+        return FORMATIFY.parse(input).toLegacyString();
+    }
+
+    private static String plain(String input) {
+        return legacy(input).replaceAll("§.", "");
+    }
+
+    @Test
+    public void nestedTags() {
+        assertEquals("§ca§lb§cc", legacy("<red>a<bold>b</bold>c</red>"));
+        assertEquals(legacy("<red>a</red><blue>b</blue>"), legacy("<red>a<blue>b</blue></red>"));
+    }
+
+    @Test
+    public void overlappingClosingTags() {
+        // closing tag closes the innermost matching tag together with the tags opened after it
+        assertEquals(legacy("<red>a<bold>b</bold></red>c"), legacy("<red>a<bold>b</red>c"));
+        // the bold tag is already closed, so its closing tag is kept as text
+        assertEquals("abc</bold>", plain("<red>a<bold>b</red>c</bold>"));
+        assertEquals(legacy("<red>a<blue>b</blue>c</red>d"), legacy("<red>a<red><blue>b</red>c</red>d"));
+        assertEquals(legacy("<red>a</red>b"), legacy("<red>a<reset>b"));
+    }
+
+    @Test
+    public void unmatchedClosingTag() {
+        assertEquals("a</red>b", plain("a</red>b"));
+    }
+
+    @Test
+    public void unterminatedTag() {
+        assertEquals("a < b", plain("a < b"));
+        assertEquals("a <red", plain("a <red"));
+        assertEquals("1 < 2 is true", plain("1 < 2 <green>is true"));
+        assertEquals(legacy("<< 1 <green>is true"), "<< 1 " + legacy("<green>is true"));
+    }
+
+    @Test
+    public void emptyTagContent() {
+        assertEquals("", plain("<red></red>"));
+        assertEquals("ab", plain("a<bold><red></red></bold>b"));
+        assertEquals("", plain(""));
+    }
+
+    @Test
+    public void escapedText() {
+        TextComponent component = FORMATIFY.parse("<insert:a\\:b>text</insert>");
+        TextComponent text = (TextComponent) component.getSiblings().getFirst();
+        assertEquals("a:b", text.getInsertion().orElseThrow());
+        assertEquals("text", text.getText());
+        assertEquals("<unknown>text", plain("<unknown>text"));
+    }
+
+    @Test
+    public void lenientErrors() {
+        List<ParseException> errors = new ArrayList<>();
+        Formatify formatify = Formatify.builder().errorHandler(errors::add).build();
+        assertEquals("<gradient:red>text", formatify.parse("<gradient:red>text").toLegacyString());
+        assertEquals("<bold:true>text", formatify.parse("<bold:true>text").toLegacyString());
+        assertEquals(2, errors.size());
+        assertTrue(errors.getFirst().getMessage().contains("<gradient:red>"));
+    }
+
+    @Test
+    public void strictErrors() {
+        Formatify formatify = Formatify.builder().strict().build();
+        assertThrows(FormatifyException.class, () -> formatify.parse("<gradient:red>text"));
+        assertThrows(FormatifyException.class, () -> formatify.parse("<unknown>text"));
+        assertThrows(FormatifyException.class, () -> FORMATIFY.strict().parse("<bold:true>text"));
+        assertEquals("text", formatify.parse("<bold>text</bold>").getSiblings().getFirst().getString());
+    }
+
+}
@@ -0,0 +1,98 @@
+package org.machinemc.scriptive.formatify.tag;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.KeybindComponent;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.formatify.Formatify;
+import org.machinemc.scriptive.style.ChatColor;
+import org.machinemc.scriptive.style.Colour;
+import org.machinemc.scriptive.style.HexColor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GradientTagTest {
+
+    private static List<Component> apply(GradientTag tag, Component component) {
+        tag.apply(component);
+        return component.toFlatList();
+    }
+
+    private static String text(List<Component> parts) {
+        StringBuilder builder = new StringBuilder();
+        parts.forEach(part -> builder.append(part.getString()));
+        return builder.toString();
+    }
+
+    @Test
+    public void surrogatePair() {
+        List<Component> parts = Formatify.builder().build().parse("<gradient:red:blue>a😀b").toFlatList();
+        assertEquals("a😀b", text(parts));
+        for (Component part : parts) {
+            String string = part.getString();
+            if (string.isEmpty()) continue;
+            assertFalse(Character.isLowSurrogate(string.charAt(0)));
+            assertFalse(Character.isHighSurrogate(string.charAt(string.length() - 1)));
+        }
+    }
+
+    @Test
+    public void identicalColors() {
+        GradientTag tag = new GradientTag(new Colour[]{new HexColor("#000000"), new HexColor("#000001")}, 0);
+        List<Component> parts = apply(tag, TextComponent.of("aaaa"));
+        List<Component> runs = parts.stream().filter(part -> !part.getString().isEmpty()).toList();
+        assertEquals(2, runs.size());
+        assertEquals("aaa", runs.getFirst().getString());
+        assertEquals("aaaa", text(parts));
+    }
+
+    @Test
+    public void tolerance() {
+        Colour[] colors = {ChatColor.RED, ChatColor.BLUE};
+        String input = "a".repeat(32);
+        long exact = apply(new GradientTag(colors, 0), TextComponent.of(input)).size();
+        long tolerant = apply(new GradientTag(colors, 0, 100), TextComponent.of(input)).size();
+        assertTrue(tolerant < exact);
+        // every color of the gradient is within the tolerance of the first one
+        List<Component> merged = apply(new GradientTag(colors, 0, 10_000), TextComponent.of(input));
+        assertEquals(input, text(merged));
+        assertEquals(1, merged.stream().filter(part -> !part.getString().isEmpty()).count());
+    }
+
+    @Test
+    public void negativeTolerance() {
+        assertThrows(IllegalArgumentException.class, () -> new GradientTag(new Colour[]{ChatColor.RED, ChatColor.BLUE}, 0, -1));
+    }
+
+    @Test
+    public void overriddenColors() {
+        GradientTag tag = new GradientTag(new Colour[]{ChatColor.RED, ChatColor.BLUE}, 0) {
+            @Override
+            protected int lerpRGB(double value) {
+                return 0x123456;
+            }
+        };
+        List<Component> parts = apply(tag, TextComponent.of("abc"));
+        assertEquals("abc", text(parts));
+        assertTrue(parts.stream()
+                .filter(part -> !part.getString().isEmpty())
+                .allMatch(part -> part.getColor().orElseThrow().getRGB() == 0x123456));
+    }
+
+    @Test
+    public void keybind() {
+        TextComponent component = TextComponent.of("a");
+        component.append(KeybindComponent.of("key.jump"));
+        component.append("b");
+        List<Component> parts = apply(new GradientTag(new Colour[]{ChatColor.RED, ChatColor.BLUE}, 0), component);
+        assertEquals(1, parts.stream().filter(KeybindComponent.class::isInstance).count());
+        assertTrue(parts.stream().filter(KeybindComponent.class::isInstance).allMatch(part -> part.getColor().isPresent()));
+        assertEquals("akey.jumpb", text(parts));
+
+        List<Component> parsed = Formatify.builder().build().parse("<gradient:red:blue>a<key:key.jump>b").toFlatList();
+        assertEquals(1, parsed.stream().filter(KeybindComponent.class::isInstance).count());
+    }
+
+}
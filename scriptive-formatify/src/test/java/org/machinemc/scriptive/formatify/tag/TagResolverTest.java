@@ -0,0 +1,98 @@
+package org.machinemc.scriptive.formatify.tag;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.formatify.Formatify;
+import org.machinemc.scriptive.formatify.exceptions.ParseException;
+import org.machinemc.scriptive.formatify.parameter.ArgumentQueue;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagResolverTest {
+
+    private static final Formatify FORMATIFY = Formatify.builder().build();
+
+    private static final Tag ANY_TAG = component -> {};
+    private static final Tag NAMED_TAG = component -> {};
+
+    private static final TagResolver ANY = (tagName, arguments) -> Optional.of(ANY_TAG);
+    private static final TagResolver NAMED = TagResolver.resolver("named", NAMED_TAG);
+
+    private static Optional<Tag> resolve(TagResolver resolver, String tagName, String... arguments) {
+        ArgumentQueue queue = new ArgumentQueue(FORMATIFY);
+        for (String argument : arguments) queue.offer(argument);
+        return resolver.resolve(tagName, queue);
+    }
+
+    private static TagResolver failing(String message) {
+        return (tagName, arguments) -> {
+            throw new ParseException(message);
+        };
+    }
+
+    @Test
+    public void unnamedBeforeNamed() {
+        TagResolver resolvers = TagResolver.resolvers(ANY, NAMED);
+        assertSame(ANY_TAG, resolve(resolvers, "named").orElseThrow());
+        assertSame(ANY_TAG, resolve(resolvers, "other").orElseThrow());
+    }
+
+    @Test
+    public void unnamedAfterNamed() {
+        TagResolver resolvers = TagResolver.resolvers(NAMED, ANY);
+        assertSame(NAMED_TAG, resolve(resolvers, "named").orElseThrow());
+        assertSame(ANY_TAG, resolve(resolvers, "other").orElseThrow());
+        assertTrue(resolve(TagResolver.resolvers(NAMED), "other").isEmpty());
+    }
+
+    @Test
+    public void nestedResolvers() {
+        Tag first = component -> {};
+        TagResolver nested = TagResolver.resolvers(TagResolver.resolver("first", first), NAMED);
+        TagResolver resolvers = TagResolver.resolvers(nested, ANY, TagResolver.resolvers(TagResolver.resolver("first", ANY_TAG)));
+
+        assertSame(first, resolve(resolvers, "first").orElseThrow());
+        assertSame(NAMED_TAG, resolve(resolvers, "named").orElseThrow());
+        assertSame(ANY_TAG, resolve(resolvers, "other").orElseThrow());
+        assertSame(ANY_TAG, resolve(TagResolver.resolvers(TagResolver.resolvers(ANY), NAMED), "named").orElseThrow());
+    }
+
+    @Test
+    public void firstException() {
+        TagResolver resolvers = TagResolver.resolvers(failing("first"), failing("second"));
+        ParseException exception = assertThrows(ParseException.class, () -> resolve(resolvers, "tag"));
+        assertEquals("first", exception.getMessage());
+
+        TagResolver recovering = TagResolver.resolvers(TagResolver.named(Set.of("tag"), failing("first")), ANY);
+        assertSame(ANY_TAG, resolve(recovering, "tag").orElseThrow());
+        assertSame(ANY_TAG, resolve(recovering, "other").orElseThrow());
+    }
+
+    @Test
+    public void named() {
+        TagResolver named = TagResolver.named(Set.of("a", "b"), ANY);
+        assertEquals(Set.of("a", "b"), named.names().orElseThrow());
+        assertSame(ANY_TAG, resolve(named, "a").orElseThrow());
+        assertSame(ANY_TAG, resolve(named, "b").orElseThrow());
+        assertTrue(resolve(named, "c").isEmpty());
+        assertTrue(ANY.names().isEmpty());
+    }
+
+    @Test
+    public void consumedArguments() {
+        TagResolver resolvers = TagResolver.resolvers(DefaultTags.COLOR, ANY);
+        ArgumentQueue queue = new ArgumentQueue(FORMATIFY);
+        queue.offer("red");
+        assertNotSame(ANY_TAG, resolvers.resolve("color", queue).orElseThrow());
+        assertEquals(0, queue.size());
+
+        // arguments of a failed resolver are not consumed
+        queue.offer("red");
+        queue.offer("extra");
+        assertSame(ANY_TAG, resolvers.resolve("color", queue).orElseThrow());
+        assertEquals(2, queue.size());
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.machinemc.scriptive.locale;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Utils for JSON language files, objects mapping the translation
+ * keys to their values (like the vanilla {@code en_us.json}).
+ */
+public final class JSONLocaleLanguages {
+
+    private JSONLocaleLanguages() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Reads translations from a JSON language file.
+     *
+     * @param reader reader of the JSON language file
+     * @return translations
+     * @throws IOException if the translations can not be read
+     */
+    public static Map<String, String> read(Reader reader) throws IOException {
+        Objects.requireNonNull(reader, "Reader can not be null");
+        Map<String, String> translations = new HashMap<>();
+        JsonReader json = new JsonReader(reader);
+        json.beginObject();
+        while (json.hasNext()) translations.put(json.nextName(), json.nextString());
+        json.endObject();
+        return translations;
+    }
+
+    /**
+     * Creates locale language from a JSON language file.
+     *
+     * @param path path to the UTF-8 encoded JSON language file
+     * @param compiled whether the translations should be precompiled to templates
+     * @return locale language
+     * @throws IOException if the translations can not be read
+     * @see LocaleLanguage#fromMap(Map, boolean)
+     */
+    public static LocaleLanguage load(Path path, boolean compiled) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return LocaleLanguage.fromMap(read(reader), compiled);
+        }
+    }
+
+    /**
+     * Converts a JSON language file to a language file that can be
+     * memory-mapped by {@link MappedLocaleLanguage}.
+     *
+     * @param json path to the UTF-8 encoded JSON language file
+     * @param path path to the language file
+     * @throws IOException if the file can not be read or written
+     */
+    public static void convert(Path json, Path path) throws IOException {
+        Objects.requireNonNull(json, "JSON path can not be null");
+        try (Reader reader = Files.newBufferedReader(json, StandardCharsets.UTF_8)) {
+            MappedLocaleLanguage.write(read(reader), path);
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package org.machinemc.scriptive.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * Properties reader that pulls JSON tokens using GSON {@link JsonReader}.
+ */
+public class JSONPropertiesReader implements PropertiesReader {
+
+    private final JsonReader reader;
+
+    /**
+     * Creates new JSON properties reader.
+     *
+     * @param input input
+     */
+    public JSONPropertiesReader(Reader input) {
+        this(new Gson(), input);
+    }
+
+    /**
+     * Creates new JSON properties reader.
+     * <p>
+     * Same as {@link com.google.gson.JsonParser}, the reader is lenient.
+     *
+     * @param gson GSON instance used to configure the JSON reader
+     * @param input input
+     */
+    public JSONPropertiesReader(Gson gson, Reader input) {
+        Objects.requireNonNull(gson, "GSON instance can not be null");
+        Objects.requireNonNull(input, "Input can not be null");
+        this.reader = gson.newJsonReader(input);
+        reader.setLenient(true);
+    }
+
+    /**
+     * Creates new JSON properties reader.
+     *
+     * @param reader JSON reader to use
+     */
+    public JSONPropertiesReader(JsonReader reader) {
+        this.reader = Objects.requireNonNull(reader, "JSON reader can not be null");
+    }
+
+    @Override
+    public Token peek() {
+        try {
+            return switch (reader.peek()) {
+                case BEGIN_OBJECT -> Token.PROPERTIES;
+                case BEGIN_ARRAY -> Token.ARRAY;
+                case NAME -> Token.NAME;
+                case STRING -> Token.STRING;
+                case BOOLEAN -> Token.BOOLEAN;
+                case NUMBER -> Token.INTEGER;
+                case END_OBJECT, END_ARRAY, END_DOCUMENT -> Token.END;
+                case NULL -> throw new JsonSyntaxException("Unexpected null value at " + reader.getPath());
+            };
+        } catch (IOException exception) {
+            throw wrap(exception);
+        }
+    }
+
+    @Override
+    public void beginProperties() {
+        try {
+            reader.beginObject();
+        } catch (IOException exception) {
+            throw wrap(exception);
+        }
+    }
+
+    @Override
+    public void endProperties() {
+        try {
+            reader.endObject();
+        } catch (IOException exception) {
+            throw wrap(exception);
+        }
+    }
+
+    @Override
+    public void beginArray() {
+        try {
+            reader.beginArray();
+        } catch (IOException exception) {
+            throw wrap(exception);
+        }
+    }
+
+    @Override
+    public void endArray() {
+        try {
+            reader.endArray();
+        } catch (IOException exception) {
+            throw wrap(exception);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return reader.hasNext();
+        } catch (IOException exception) {
+            throw wrap(exception);
+        }
+    }
+
+    @Override
+    public String nextName() {
+        try {
+            return reader.nextName();
+        } catch (IOException exception) {
+            throw wrap(exception);
+        }
+    }
+
+    @Override
+    public String nextString() {
+        try {
+            return reader.nextString();
+        } catch (IOException exception) {
+            throw wrap(exception);
+        }
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        try {
+            return reader.nextBoolean();
+        } catch (IOException exception) {
+            throw wrap(exception);
+        }
+    }
+
+    @Override
+    public int nextInt() {
+        try {
+            return reader.nextInt();
+        } catch (IOException exception) {
+            throw wrap(exception);
+        } catch (NumberFormatException exception) {
+            throw new JsonSyntaxException(exception);
+        }
+    }
+
+    @Override
+    public void skipValue() {
+        try {
+            reader.skipValue();
+        } catch (IOException exception) {
+            throw wrap(exception);
+        }
+    }
+
+    private static RuntimeException wrap(IOException exception) {
+        if (exception instanceof MalformedJsonException)
+            return new JsonSyntaxException(exception);
+        return new JsonIOException(exception);
+    }
+
+}
@@ -1,7 +1,10 @@
 package org.machinemc.scriptive.serialization;
 
 import com.google.gson.*;
+import org.machinemc.scriptive.components.Component;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -10,6 +13,9 @@ import java.util.Objects;
  */
 public class JSONPropertiesSerializer implements PropertiesSerializer<String> {
 
+    private static final JsonPrimitive TRUE = new JsonPrimitive(true);
+    private static final JsonPrimitive FALSE = new JsonPrimitive(false);
+
     private final Gson gson;
 
     /**
@@ -35,6 +41,31 @@ public class JSONPropertiesSerializer implements PropertiesSerializer<String> {
         return gson.toJson(element);
     }
 
+    /**
+     * Serializes component to JSON without creating its component properties.
+     *
+     * @param component component
+     * @param componentSerializer component serializer
+     * @return JSON
+     */
+    public String serialize(Component component, ComponentSerializer componentSerializer) {
+        StringBuilder builder = new StringBuilder();
+        write(component, componentSerializer, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Writes component as JSON to the output without creating its component properties.
+     *
+     * @param component component
+     * @param componentSerializer component serializer
+     * @param output output
+     */
+    public void write(Component component, ComponentSerializer componentSerializer, Appendable output) {
+        Objects.requireNonNull(component, "Component can not be null");
+        componentSerializer.serialize(component, new JSONPropertiesWriter(gson, output));
+    }
+
     @Override
     public ComponentProperties deserialize(String value) {
         Objects.requireNonNull(value, "JSON can not be null");
@@ -42,10 +73,37 @@ public class JSONPropertiesSerializer implements PropertiesSerializer<String> {
         return ComponentProperty.convertToProperties(wrap(element)).value();
     }
 
+    /**
+     * Deserializes component from JSON without creating its component properties.
+     *
+     * @param value JSON
+     * @param componentSerializer component serializer
+     * @return component
+     */
+    public Component deserialize(String value, ComponentSerializer componentSerializer) {
+        Objects.requireNonNull(value, "JSON can not be null");
+        return read(new StringReader(value), componentSerializer);
+    }
+
+    /**
+     * Reads component as JSON from the input without creating its component properties.
+     *
+     * @param input input
+     * @param componentSerializer component serializer
+     * @return component
+     */
+    public Component read(Reader input, ComponentSerializer componentSerializer) {
+        JSONPropertiesReader reader = new JSONPropertiesReader(gson, input);
+        Component component = componentSerializer.deserialize(reader);
+        if (reader.peek() != PropertiesReader.Token.END)
+            throw new JsonSyntaxException("Did not consume the entire document.");
+        return component;
+    }
+
     private JsonElement unwrap(ComponentProperty<?> property) {
         return switch (property) {
             case ComponentProperty.String string -> new JsonPrimitive(string.value());
-            case ComponentProperty.Boolean bool -> new JsonPrimitive(bool.value());
+            case ComponentProperty.Boolean bool -> bool.booleanValue() ? TRUE : FALSE;
             case ComponentProperty.Integer integer -> new JsonPrimitive(integer.value());
             case ComponentProperty.Properties properties -> {
                 JsonObject json = new JsonObject();
@@ -0,0 +1,194 @@
+package org.machinemc.scriptive.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * Properties writer that streams JSON using GSON {@link JsonWriter}.
+ */
+public class JSONPropertiesWriter implements PropertiesWriter, Flushable {
+
+    private final JsonWriter writer;
+
+    /**
+     * Creates new JSON properties writer.
+     *
+     * @param appendable output
+     */
+    public JSONPropertiesWriter(Appendable appendable) {
+        this(new Gson(), appendable);
+    }
+
+    /**
+     * Creates new JSON properties writer.
+     *
+     * @param gson GSON instance used to configure the JSON writer
+     * @param appendable output
+     */
+    public JSONPropertiesWriter(Gson gson, Appendable appendable) {
+        Objects.requireNonNull(gson, "GSON instance can not be null");
+        Objects.requireNonNull(appendable, "Output can not be null");
+        try {
+            this.writer = gson.newJsonWriter(appendable instanceof Writer w ? w : new AppendableWriter(appendable));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Creates new JSON properties writer.
+     *
+     * @param writer JSON writer to use
+     */
+    public JSONPropertiesWriter(JsonWriter writer) {
+        this.writer = Objects.requireNonNull(writer, "JSON writer can not be null");
+    }
+
+    @Override
+    public JSONPropertiesWriter beginProperties() {
+        try {
+            writer.beginObject();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public JSONPropertiesWriter endProperties() {
+        try {
+            writer.endObject();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public JSONPropertiesWriter beginArray(int size) {
+        try {
+            writer.beginArray();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public JSONPropertiesWriter endArray() {
+        try {
+            writer.endArray();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public JSONPropertiesWriter name(String name) {
+        try {
+            writer.name(name);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public JSONPropertiesWriter value(String value) {
+        try {
+            writer.value(value);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public JSONPropertiesWriter value(boolean value) {
+        try {
+            writer.value(value);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public JSONPropertiesWriter value(int value) {
+        try {
+            writer.value(value);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Writer that appends directly to an appendable, used to
+     * write to string builders without intermediate buffers.
+     */
+    private static final class AppendableWriter extends Writer {
+
+        private final Appendable appendable;
+
+        private AppendableWriter(Appendable appendable) {
+            this.appendable = appendable;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            appendable.append((char) c);
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            for (int i = offset, end = offset + length; i < end; i++)
+                appendable.append(buffer[i]);
+        }
+
+        @Override
+        public void write(String string, int offset, int length) throws IOException {
+            appendable.append(string, offset, offset + length);
+        }
+
+        @Override
+        public Writer append(CharSequence sequence) throws IOException {
+            appendable.append(sequence);
+            return this;
+        }
+
+        @Override
+        public Writer append(CharSequence sequence, int start, int end) throws IOException {
+            appendable.append(sequence, start, end);
+            return this;
+        }
+
+        @Override
+        public Writer append(char c) throws IOException {
+            appendable.append(c);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+}
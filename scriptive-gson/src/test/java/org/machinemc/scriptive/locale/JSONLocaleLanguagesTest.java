@@ -0,0 +1,31 @@
+package org.machinemc.scriptive.locale;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONLocaleLanguagesTest {
+
+    @Test
+    public void convert() throws IOException {
+        Path json = Files.createTempFile("scriptive", ".json");
+        Path path = Files.createTempFile("scriptive", ".lang");
+        try {
+            Files.writeString(json, "{\"chat.type.text\": \"<%s> %s\", \"menu.quit\": \"Quit Game\"}", StandardCharsets.UTF_8);
+            JSONLocaleLanguages.convert(json, path);
+            MappedLocaleLanguage language = MappedLocaleLanguage.open(path);
+            assertEquals(2, language.size());
+            assertEquals("<%s> %s", language.getOrDefault("chat.type.text"));
+            assertEquals("Quit Game", JSONLocaleLanguages.load(json, true).getOrDefault("menu.quit"));
+        } finally {
+            Files.delete(json);
+            Files.delete(path);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package org.machinemc.scriptive.serialization;
+
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.KeybindComponent;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.components.TranslationComponent;
+import org.machinemc.scriptive.events.ClickEvent;
+import org.machinemc.scriptive.events.HoverEvent;
+import org.machinemc.scriptive.style.ChatColor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JSONPropertiesReaderTest {
+
+    @Test
+    public void test() {
+        TextComponent component = TextComponent.of("Hello World!")
+                .modify()
+                .color(ChatColor.BLUE)
+                .bold(true)
+                .insertion("insertion")
+                .clickEvent(new ClickEvent(ClickEvent.Action.SUGGEST_COMMAND, "/msg "))
+                .hoverEvent(new HoverEvent<>(HoverEvent.SHOW_ENTITY, new HoverEvent.Entity(UUID.randomUUID(), null, TextComponent.of("Name"))))
+                .append(TranslationComponent.of("chat.type.text", "%s: %s", TextComponent.of("Player"), KeybindComponent.of("key.chat")))
+                .append(" this is a child component")
+                .finish();
+
+        ComponentSerializer componentSerializer = new ComponentSerializer();
+        JSONPropertiesSerializer propertiesSerializer = new JSONPropertiesSerializer();
+
+        String json = propertiesSerializer.serialize(component, componentSerializer);
+        assertEquals(component, propertiesSerializer.deserialize(json, componentSerializer));
+
+        json = componentSerializer.serialize(component, propertiesSerializer);
+        assertEquals(component, propertiesSerializer.deserialize(json, componentSerializer));
+        assertEquals(componentSerializer.deserialize(json, propertiesSerializer), propertiesSerializer.deserialize(json, componentSerializer));
+    }
+
+    @Test
+    public void unorderedProperties() {
+        String json = "{\"color\":\"red\",\"extra\":[\"child\"],\"text\":\"Hello\","
+                + "\"hoverEvent\":{\"contents\":[\"hover\",{\"text\":\"text\",\"bold\":true}],\"action\":\"show_text\"}}";
+
+        ComponentSerializer componentSerializer = new ComponentSerializer();
+        JSONPropertiesSerializer propertiesSerializer = new JSONPropertiesSerializer();
+
+        Component component = propertiesSerializer.deserialize(json, componentSerializer);
+        assertEquals(componentSerializer.deserialize(json, propertiesSerializer), component);
+        assertEquals(ChatColor.RED, component.getColor().orElseThrow());
+        assertEquals("child", component.getSiblings().getFirst().getString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void hoverEvent() throws IOException {
+        String json;
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream("component.txt")) {
+            assert is != null;
+            json = new String(is.readAllBytes());
+        }
+
+        ComponentSerializer componentSerializer = new ComponentSerializer();
+        JSONPropertiesSerializer propertiesSerializer = new JSONPropertiesSerializer();
+        TextComponent component = (TextComponent) propertiesSerializer.deserialize(json, componentSerializer);
+
+        HoverEvent<HoverEvent.Text> hoverEvent = (HoverEvent<HoverEvent.Text>) component.getHoverEvent().orElseThrow();
+        HoverEvent.Text content = hoverEvent.contents();
+
+        TextComponent first = (TextComponent) content.component();
+        TextComponent second = (TextComponent) first.getSiblings().getFirst();
+
+        assert first.getText().equals("This is a hover event");
+        assert first.isItalic().orElseThrow();
+        assert first.getFont().orElseThrow().equals("minecraft:default");
+
+        assert second.getText().equals("This is another hover text");
+    }
+
+}
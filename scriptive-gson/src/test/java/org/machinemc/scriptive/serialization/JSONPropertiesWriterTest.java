@@ -0,0 +1,68 @@
+package org.machinemc.scriptive.serialization;
+
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.machinemc.scriptive.components.Component;
+import org.machinemc.scriptive.components.KeybindComponent;
+import org.machinemc.scriptive.components.TextComponent;
+import org.machinemc.scriptive.components.TranslationComponent;
+import org.machinemc.scriptive.events.ClickEvent;
+import org.machinemc.scriptive.events.HoverEvent;
+import org.machinemc.scriptive.style.ChatColor;
+import org.machinemc.scriptive.style.HexColor;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JSONPropertiesWriterTest {
+
+    @Test
+    public void test() {
+        TextComponent component = TextComponent.of("Hello World!")
+                .modify()
+                .color(ChatColor.BLUE)
+                .bold(true)
+                .italic(false)
+                .font("minecraft:uniform")
+                .insertion("insertion")
+                .clickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/help"))
+                .hoverEvent(TextComponent.of("hover", new HexColor(0x123ABC).asTextFormat()).asHoverEvent())
+                .append(TranslationComponent.of("chat.type.text", TextComponent.of("Player"), KeybindComponent.of("key.jump")))
+                .append(" this is a child component")
+                .finish();
+
+        ComponentSerializer componentSerializer = new ComponentSerializer();
+        JSONPropertiesSerializer propertiesSerializer = new JSONPropertiesSerializer();
+        String expected = componentSerializer.serialize(component, propertiesSerializer);
+        String streamed = propertiesSerializer.serialize(component, componentSerializer);
+
+        assertEquals(JsonParser.parseString(expected), JsonParser.parseString(streamed));
+        assertEquals(
+                componentSerializer.deserialize(expected, propertiesSerializer),
+                componentSerializer.deserialize(streamed, propertiesSerializer)
+        );
+    }
+
+    @Test
+    public void hoverEventValues() {
+        Component component = TextComponent.of("Entity")
+                .modify()
+                .hoverEvent(new HoverEvent<>(HoverEvent.SHOW_ENTITY, new HoverEvent.Entity(UUID.randomUUID(), "minecraft:cow", TextComponent.of("Cow"))))
+                .append(TextComponent.of("Item").modify()
+                        .hoverEvent(new HoverEvent<>(HoverEvent.SHOW_ITEM, new HoverEvent.Item("minecraft:stone", 64, null)))
+                        .finish())
+                .finish();
+
+        ComponentSerializer componentSerializer = new ComponentSerializer();
+        JSONPropertiesSerializer propertiesSerializer = new JSONPropertiesSerializer();
+        StringBuilder builder = new StringBuilder();
+        propertiesSerializer.write(component, componentSerializer, builder);
+
+        assertEquals(
+                JsonParser.parseString(componentSerializer.serialize(component, propertiesSerializer)),
+                JsonParser.parseString(builder.toString())
+        );
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.machinemc.scriptive.serialization;
+
+import org.machinemc.scriptive.components.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Binary component codec encoding components as binary NBT in the network format.
+ *
+ * @see OffHeapComponentStore
+ */
+public class NBTComponentCodec implements BinaryComponentCodec {
+
+    private final ComponentSerializer componentSerializer;
+
+    /**
+     * Creates new NBT component codec.
+     *
+     * @param componentSerializer component serializer
+     */
+    public NBTComponentCodec(ComponentSerializer componentSerializer) {
+        this.componentSerializer = Objects.requireNonNull(componentSerializer, "Component serializer can not be null");
+    }
+
+    @Override
+    public void write(Component component, ByteBuffer buffer) {
+        componentSerializer.serialize(component, new NBTPropertiesWriter(buffer));
+    }
+
+    @Override
+    public Component read(ByteBuffer buffer) {
+        return componentSerializer.deserialize(new NBTPropertiesReader(buffer));
+    }
+
+}
@@ -0,0 +1,270 @@
+package org.machinemc.scriptive.serialization;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * Properties reader that reads binary NBT in the network format, where
+ * the root tag has no name.
+ */
+public class NBTPropertiesReader implements PropertiesReader {
+
+    private static final int UNKNOWN = -1;
+
+    private final DataInput input;
+    private final Deque<Scope> scopes = new ArrayDeque<>();
+    private boolean rootRead;
+
+    private int type = UNKNOWN;
+    private boolean nameExpected;
+
+    /**
+     * Creates new NBT properties reader.
+     *
+     * @param input input
+     */
+    public NBTPropertiesReader(DataInput input) {
+        this.input = Objects.requireNonNull(input, "Input can not be null");
+    }
+
+    /**
+     * Creates new NBT properties reader that reads from a byte buffer.
+     *
+     * @param buffer buffer
+     */
+    public NBTPropertiesReader(ByteBuffer buffer) {
+        this(new DataInputStream(new BufferInputStream(buffer)));
+    }
+
+    @Override
+    public Token peek() {
+        int type = nextType();
+        if (nameExpected) return Token.NAME;
+        return switch (type) {
+            case NBTTags.END -> Token.END;
+            case NBTTags.BYTE -> Token.BOOLEAN;
+            case NBTTags.SHORT, NBTTags.INT -> Token.INTEGER;
+            case NBTTags.STRING -> Token.STRING;
+            case NBTTags.LIST, NBTTags.INT_ARRAY -> Token.ARRAY;
+            case NBTTags.COMPOUND -> Token.PROPERTIES;
+            default -> throw new IllegalStateException("Unsupported NBT tag type " + type);
+        };
+    }
+
+    @Override
+    public void beginProperties() {
+        consume(NBTTags.COMPOUND);
+        scopes.push(new Scope(UNKNOWN, -1));
+    }
+
+    @Override
+    public void endProperties() {
+        Scope scope = scopes.peek();
+        if (scope == null || scope.isList() || nextType() != NBTTags.END)
+            throw new IllegalStateException("Expected " + Token.END + " but was " + peek());
+        scopes.pop();
+        type = UNKNOWN;
+    }
+
+    @Override
+    public void beginArray() {
+        int arrayType = consume(NBTTags.LIST, NBTTags.INT_ARRAY);
+        try {
+            int elementType = arrayType == NBTTags.INT_ARRAY ? NBTTags.INT : input.readByte();
+            int length = input.readInt();
+            if (length < 0) throw new IllegalStateException("Length of an NBT list can not be negative");
+            scopes.push(new Scope(elementType, length));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public void endArray() {
+        Scope scope = scopes.peek();
+        if (scope == null || !scope.isList() || scope.remaining != 0)
+            throw new IllegalStateException("Expected " + Token.END + " but was " + peek());
+        scopes.pop();
+        type = UNKNOWN;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextType() != NBTTags.END;
+    }
+
+    @Override
+    public String nextName() {
+        nextType();
+        if (!nameExpected) throw new IllegalStateException("Expected " + Token.NAME + " but was " + peek());
+        nameExpected = false;
+        try {
+            return input.readUTF();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public String nextString() {
+        consume(NBTTags.STRING);
+        try {
+            return input.readUTF();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        consume(NBTTags.BYTE);
+        try {
+            return input.readByte() != 0;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public int nextInt() {
+        int type = consume(NBTTags.BYTE, NBTTags.SHORT, NBTTags.INT);
+        try {
+            return switch (type) {
+                case NBTTags.BYTE -> input.readByte();
+                case NBTTags.SHORT -> input.readShort();
+                default -> input.readInt();
+            };
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public void skipValue() {
+        if (peek() == Token.NAME) nextName();
+        int type = nextType();
+        if (type == NBTTags.END) throw new IllegalStateException("Expected a value but was " + Token.END);
+        consume(type);
+        try {
+            skipPayload(type);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void skipPayload(int type) throws IOException {
+        switch (type) {
+            case NBTTags.BYTE -> input.skipBytes(1);
+            case NBTTags.SHORT -> input.skipBytes(2);
+            case NBTTags.INT, NBTTags.FLOAT -> input.skipBytes(4);
+            case NBTTags.LONG, NBTTags.DOUBLE -> input.skipBytes(8);
+            case NBTTags.BYTE_ARRAY -> input.skipBytes(input.readInt());
+            case NBTTags.INT_ARRAY -> input.skipBytes(input.readInt() * 4);
+            case NBTTags.LONG_ARRAY -> input.skipBytes(input.readInt() * 8);
+            case NBTTags.STRING -> input.skipBytes(input.readUnsignedShort());
+            case NBTTags.LIST -> {
+                int elementType = input.readByte();
+                for (int i = input.readInt(); i > 0; i--) skipPayload(elementType);
+            }
+            case NBTTags.COMPOUND -> {
+                int next;
+                while ((next = input.readByte()) != NBTTags.END) {
+                    input.skipBytes(input.readUnsignedShort());
+                    skipPayload(next);
+                }
+            }
+            default -> throw new IllegalStateException("Unsupported NBT tag type " + type);
+        }
+    }
+
+    /**
+     * Returns type of the next tag, reading its header if necessary.
+     *
+     * @return type of the next tag
+     */
+    private int nextType() {
+        if (type != UNKNOWN) return type;
+        Scope scope = scopes.peek();
+        try {
+            if (scope == null) {
+                // root tag of the network format is nameless
+                type = rootRead ? NBTTags.END : input.readByte();
+                rootRead = true;
+            } else if (scope.isList()) {
+                type = scope.remaining > 0 ? scope.type : NBTTags.END;
+            } else {
+                type = input.readByte();
+                nameExpected = type != NBTTags.END;
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return type;
+    }
+
+    private int consume(int... expected) {
+        int type = nextType();
+        boolean matches = false;
+        for (int next : expected) matches |= next == type;
+        if (nameExpected || !matches)
+            throw new IllegalStateException("Unexpected " + peek() + " (NBT tag type " + type + ")");
+        this.type = UNKNOWN;
+        Scope scope = scopes.peek();
+        if (scope != null && scope.isList()) scope.remaining--;
+        return type;
+    }
+
+    /**
+     * Properties object or an array.
+     */
+    private static final class Scope {
+
+        private final int type;
+        private int remaining;
+
+        private Scope(int type, int remaining) {
+            this.type = type;
+            this.remaining = remaining;
+        }
+
+        private boolean isList() {
+            return remaining != -1;
+        }
+
+    }
+
+    private static final class BufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private BufferInputStream(ByteBuffer buffer) {
+            this.buffer = Objects.requireNonNull(buffer, "Buffer can not be null");
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            len = Math.min(len, buffer.remaining());
+            buffer.get(b, off, len);
+            return len;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+    }
+
+}
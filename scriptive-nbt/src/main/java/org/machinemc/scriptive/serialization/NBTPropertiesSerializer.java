@@ -3,6 +3,9 @@ package org.machinemc.scriptive.serialization;
 import org.machinemc.nbt.*;
 import org.machinemc.scriptive.components.Component;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -27,11 +30,65 @@ public class NBTPropertiesSerializer implements PropertiesSerializer<NBTCompound
         return ComponentProperty.convertToProperties(wrap(value)).value();
     }
 
+    /**
+     * Writes the component directly as binary NBT in the network format,
+     * without creating its component properties or NBT compound.
+     *
+     * @param component component
+     * @param componentSerializer component serializer
+     * @param output output
+     */
+    public void write(Component component, ComponentSerializer componentSerializer, DataOutput output) {
+        Objects.requireNonNull(component, "Component can not be null");
+        Objects.requireNonNull(componentSerializer, "Component serializer can not be null");
+        componentSerializer.serialize(component, new NBTPropertiesWriter(output));
+    }
+
+    /**
+     * Writes the component directly as binary NBT in the network format,
+     * without creating its component properties or NBT compound.
+     *
+     * @param component component
+     * @param componentSerializer component serializer
+     * @param buffer buffer
+     */
+    public void write(Component component, ComponentSerializer componentSerializer, ByteBuffer buffer) {
+        Objects.requireNonNull(component, "Component can not be null");
+        Objects.requireNonNull(componentSerializer, "Component serializer can not be null");
+        componentSerializer.serialize(component, new NBTPropertiesWriter(buffer));
+    }
+
+    /**
+     * Reads the component directly from binary NBT in the network format,
+     * without creating its NBT compound or component properties.
+     *
+     * @param input input
+     * @param componentSerializer component serializer
+     * @return component
+     */
+    public Component read(DataInput input, ComponentSerializer componentSerializer) {
+        Objects.requireNonNull(componentSerializer, "Component serializer can not be null");
+        return componentSerializer.deserialize(new NBTPropertiesReader(input));
+    }
+
+    /**
+     * Reads the component directly from binary NBT in the network format,
+     * without creating its NBT compound or component properties.
+     *
+     * @param buffer buffer
+     * @param componentSerializer component serializer
+     * @return component
+     */
+    public Component read(ByteBuffer buffer, ComponentSerializer componentSerializer) {
+        Objects.requireNonNull(componentSerializer, "Component serializer can not be null");
+        return componentSerializer.deserialize(new NBTPropertiesReader(buffer));
+    }
+
     private NBT<?> unwrap(ComponentProperty<?> property) {
         return switch (property) {
             case ComponentProperty.String string -> new NBTString(string.value());
-            case ComponentProperty.Boolean bool -> new NBTByte(bool.value() ? 1 : 0);
-            case ComponentProperty.Integer integer -> new NBTInt(integer.value());
+            case ComponentProperty.Boolean bool -> new NBTByte(bool.booleanValue() ? 1 : 0);
+            case ComponentProperty.Integer integer -> new NBTInt(integer.intValue());
             case ComponentProperty.Properties properties -> {
                 NBTCompound compound = new NBTCompound();
                 properties.value().forEach((k, p) -> compound.set(k, unwrap(p)));
@@ -0,0 +1,205 @@
+package org.machinemc.scriptive.serialization;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * Properties writer that writes binary NBT in the network format, where
+ * the root tag has no name.
+ * <p>
+ * Strings are written as modified UTF-8, booleans as bytes and integers as ints.
+ */
+public class NBTPropertiesWriter implements PropertiesWriter {
+
+    private final DataOutput output;
+    private final Deque<Scope> scopes = new ArrayDeque<>();
+    private @Nullable String name;
+
+    /**
+     * Creates new NBT properties writer.
+     *
+     * @param output output
+     */
+    public NBTPropertiesWriter(DataOutput output) {
+        this.output = Objects.requireNonNull(output, "Output can not be null");
+    }
+
+    /**
+     * Creates new NBT properties writer that writes to a byte buffer.
+     *
+     * @param buffer buffer
+     */
+    public NBTPropertiesWriter(ByteBuffer buffer) {
+        this(new DataOutputStream(new BufferOutputStream(buffer)));
+    }
+
+    @Override
+    public NBTPropertiesWriter beginProperties() {
+        beginValue(NBTTags.COMPOUND);
+        scopes.push(new Scope(-1));
+        return this;
+    }
+
+    @Override
+    public NBTPropertiesWriter endProperties() {
+        Scope scope = scopes.peek();
+        if (scope == null || scope.isList() || name != null)
+            throw new IllegalStateException("There is no properties object to end");
+        scopes.pop();
+        try {
+            output.writeByte(NBTTags.END);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public NBTPropertiesWriter beginArray(int size) {
+        if (size < 0) throw new IllegalArgumentException("Size of an array can not be negative");
+        beginValue(NBTTags.LIST);
+        scopes.push(new Scope(size));
+        return this;
+    }
+
+    @Override
+    public NBTPropertiesWriter endArray() {
+        Scope scope = scopes.peek();
+        if (scope == null || !scope.isList())
+            throw new IllegalStateException("There is no array to end");
+        if (scope.written != scope.size)
+            throw new IllegalStateException("Expected " + scope.size + " elements in an array but " + scope.written + " were written");
+        scopes.pop();
+        if (scope.size != 0) return this;
+        try {
+            output.writeByte(NBTTags.END);
+            output.writeInt(0);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public NBTPropertiesWriter name(String name) {
+        Scope scope = scopes.peek();
+        if (scope == null || scope.isList() || this.name != null)
+            throw new IllegalStateException("Name can be written only inside of properties object");
+        this.name = Objects.requireNonNull(name, "Name can not be null");
+        return this;
+    }
+
+    @Override
+    public NBTPropertiesWriter value(String value) {
+        beginValue(NBTTags.STRING);
+        try {
+            output.writeUTF(value);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public NBTPropertiesWriter value(boolean value) {
+        beginValue(NBTTags.BYTE);
+        try {
+            output.writeByte(value ? 1 : 0);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    @Override
+    public NBTPropertiesWriter value(int value) {
+        beginValue(NBTTags.INT);
+        try {
+            output.writeInt(value);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return this;
+    }
+
+    /**
+     * Writes header of the next value, that is the tag type and name for
+     * properties objects, or the list header for first element of an array.
+     *
+     * @param type tag type of the value
+     */
+    private void beginValue(byte type) {
+        Scope scope = scopes.peek();
+        try {
+            if (scope == null) {
+                // root tag of the network format is nameless
+                output.writeByte(type);
+                return;
+            }
+            if (!scope.isList()) {
+                if (name == null) throw new IllegalStateException("Expected name of the property");
+                output.writeByte(type);
+                output.writeUTF(name);
+                name = null;
+                return;
+            }
+            if (scope.written == scope.size)
+                throw new IllegalStateException("Array already contains all " + scope.size + " elements");
+            if (scope.written == 0) {
+                scope.type = type;
+                output.writeByte(type);
+                output.writeInt(scope.size);
+            } else if (scope.type != type) {
+                throw new IllegalStateException("All elements of an NBT list have to be of the same type");
+            }
+            scope.written++;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Properties object or an array.
+     */
+    private static final class Scope {
+
+        private final int size;
+        private int written;
+        private byte type;
+
+        private Scope(int size) {
+            this.size = size;
+        }
+
+        private boolean isList() {
+            return size != -1;
+        }
+
+    }
+
+    private static final class BufferOutputStream extends OutputStream {
+
+        private final ByteBuffer buffer;
+
+        private BufferOutputStream(ByteBuffer buffer) {
+            this.buffer = Objects.requireNonNull(buffer, "Buffer can not be null");
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.put(b, off, len);
+        }
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package org.machinemc.scriptive.serialization;
+
+/**
+ * IDs of NBT tag types used by the binary NBT format.
+ */
+final class NBTTags {
+
+    static final byte END = 0;
+    static final byte BYTE = 1;
+    static final byte SHORT = 2;
+    static final byte INT = 3;
+    static final byte LONG = 4;
+    static final byte FLOAT = 5;
+    static final byte DOUBLE = 6;
+    static final byte BYTE_ARRAY = 7;
+    static final byte STRING = 8;
+    static final byte LIST = 9;
+    static final byte COMPOUND = 10;
+    static final byte INT_ARRAY = 11;
+    static final byte LONG_ARRAY = 12;
+
+    private NBTTags() {
+        throw new UnsupportedOperationException();
+    }
+
+}
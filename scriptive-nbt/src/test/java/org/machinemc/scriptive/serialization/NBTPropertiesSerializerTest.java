@@ -2,13 +2,16 @@ package org.machinemc.scriptive.serialization;
 
 import org.junit.jupiter.api.Test;
 import org.machinemc.nbt.NBTCompound;
+import org.machinemc.scriptive.components.KeybindComponent;
 import org.machinemc.scriptive.components.TextComponent;
 import org.machinemc.scriptive.components.ClientComponent;
+import org.machinemc.scriptive.components.TranslationComponent;
 import org.machinemc.scriptive.events.HoverEvent;
 import org.machinemc.scriptive.style.ChatColor;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 public class NBTPropertiesSerializerTest {
 
@@ -28,6 +31,27 @@ public class NBTPropertiesSerializerTest {
         assert componentSerializer.deserialize(serialized, propertiesSerializer).equals(component);
     }
 
+    @Test
+    public void binary() throws IOException {
+        String json;
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream("component.txt")) {
+            assert is != null;
+            json = new String(is.readAllBytes());
+        }
+
+        ComponentSerializer componentSerializer = new ComponentSerializer();
+        ClientComponent component = (ClientComponent) componentSerializer.deserialize(json, new JSONPropertiesSerializer());
+        component.append(TranslationComponent.of("chat.type.text", "%s: %s", TextComponent.of("Player"), KeybindComponent.of("key.chat")));
+
+        NBTPropertiesSerializer propertiesSerializer = NBTPropertiesSerializer.get();
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        propertiesSerializer.write(component, componentSerializer, buffer);
+        buffer.flip();
+
+        assert propertiesSerializer.read(buffer, componentSerializer).equals(component);
+        assert !buffer.hasRemaining();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void hoverEvent() throws IOException {
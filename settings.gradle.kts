@@ -4,6 +4,7 @@ include("scriptive-core")
 include("scriptive-formatify")
 include("scriptive-gson")
 include("scriptive-nbt")
+include("scriptive-benchmarks")
 
 pluginManagement {
     includeBuild("build-logic")
@@ -29,6 +30,10 @@ dependencyResolutionManagement {
 
             val machineNbt: String by settings
             library("machinemc-nbt", "org.machinemc:nbt-core:$machineNbt")
+
+            val jmh: String by settings
+            library("jmh-core", "org.openjdk.jmh:jmh-core:$jmh")
+            library("jmh-generator-annprocess", "org.openjdk.jmh:jmh-generator-annprocess:$jmh")
         }
 
     }